@@ -3,9 +3,11 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -15,11 +17,11 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.parser.FindCommandParser;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
@@ -32,6 +34,7 @@ import seedu.address.storage.TemplateStorageManager;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
+import seedu.address.ui.UiPart;
 
 /**
  * Runs the application.
@@ -53,53 +56,92 @@ public class MainApp extends Application {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
-        initLogging(config);
+        // Stages that do not depend on each other run concurrently; the config and prefs have to be read first
+        // because they say where everything else is.
+        try (StartupPipeline pipeline = new StartupPipeline()) {
+            AppParameters appParameters = AppParameters.parse(getParameters());
+            Path configFilePath = getConfigFilePath(appParameters.getConfigPath());
+            pipeline.submitHeadStart("preload UI parts", UiManager::preloadParts);
+            // The prefs are nearly always in the default file, so they are read from there while the config is
+            // read, and read again only if the config names another file
+            Path defaultPrefsFilePath = new Config().getUserPrefsFilePath();
+            UserPrefsStorage defaultPrefsStorage = new JsonUserPrefsStorage(defaultPrefsFilePath);
+            CompletableFuture<UserPrefs> defaultPrefs = pipeline.submit("read prefs", () ->
+                    readPrefs(defaultPrefsStorage));
+            config = pipeline.run("read config", () -> readConfig(configFilePath));
+            initLogging(config);
+            UiPart.setBuiltInCode(config.isUiBuiltInCode());
+            pipeline.submit("save config", () -> saveConfig(config, configFilePath));
 
-        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        // Initialize template storage in the data directory (same as addressbook.json)
-        Path templateDirPath = userPrefs.getAddressBookFilePath().getParent();
-        TemplateStorage templateStorage = new TemplateStorageManager(templateDirPath);
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, templateStorage);
-        model = initModelManager(storage, userPrefs);
+            UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+            UserPrefs userPrefs = config.getUserPrefsFilePath().equals(defaultPrefsFilePath)
+                    ? defaultPrefs.join()
+                    : pipeline.run("read custom prefs", () -> readPrefs(userPrefsStorage));
+            pipeline.submit("save prefs", () -> savePrefs(userPrefsStorage, userPrefs));
 
-        logic = new LogicManager(model, storage);
+            AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+            // Initialize template storage in the data directory (same as addressbook.json)
+            Path templateDirPath = userPrefs.getAddressBookFilePath().getParent();
+            TemplateStorage templateStorage = new TemplateStorageManager(templateDirPath);
+            storage = new StorageManager(addressBookStorage, userPrefsStorage, templateStorage);
+            pipeline.submitHeadStart("preload templates", () -> preloadTemplates(templateStorage));
+            CompletableFuture<ReadOnlyAddressBook> initialData =
+                    pipeline.submit("read data", () -> readInitialData(storage, pipeline));
+            model = pipeline.run("build model", () -> initModelManager(initialData.join(), userPrefs));
 
-        ui = new UiManager(logic);
+            logic = new LogicManager(model, storage, MainApp::runOnFxThread);
+
+            ui = new UiManager(logic, config);
+            // Nothing else may write the files until the startup writes are done
+            pipeline.awaitAll();
+        }
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Returns the data from {@code storage}'s address book. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Sample data is saved to the file by a separate stage of {@code pipeline}. Data read from the file is not
+     * written back, since it is already there.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ReadOnlyAddressBook readInitialData(Storage storage, StartupPipeline pipeline) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
         try {
             addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample AddressBook.");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-            // To deal with the edge case where the file is missing, we save the sample data to the file.
-            storage.saveAddressBook(initialData);
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
-        } catch (IOException e) {
-            logger.warning("Problem while writing AddressBook to file. Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+            return new AddressBook();
+        }
+        if (addressBookOptional.isPresent()) {
+            return addressBookOptional.get();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                + " populated with a sample AddressBook.");
+        ReadOnlyAddressBook sampleData = SampleDataUtil.getSampleAddressBook();
+        // To deal with the edge case where the file is missing, we save the sample data to the file.
+        pipeline.submit("save sample data", () -> {
+            try {
+                storage.saveAddressBook(sampleData);
+            } catch (IOException e) {
+                logger.warning("Problem while writing AddressBook to file : " + StringUtil.getDetails(e));
+            }
+        });
+        return sampleData;
+    }
+
+    /**
+     * Returns a {@code ModelManager} holding {@code initialData}, which is taken over without copying when it is a
+     * freshly read or created {@code AddressBook}.
+     */
+    private Model initModelManager(ReadOnlyAddressBook initialData, UserPrefs userPrefs) {
+        if (initialData instanceof AddressBook) {
+            return ModelManager.adopt((AddressBook) initialData, userPrefs, FindCommandParser::parseSavedSearch);
+        }
+        return new ModelManager(initialData, userPrefs, FindCommandParser::parseSavedSearch);
     }
 
     private void initLogging(Config config) {
@@ -107,21 +149,22 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
+     * Returns {@code configFilePath}, or {@code Config#DEFAULT_CONFIG_FILE} if it is null.
      */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
+    private Path getConfigFilePath(Path configFilePath) {
+        if (configFilePath == null) {
+            return Config.DEFAULT_CONFIG_FILE;
         }
+        logger.info("Custom Config file specified " + configFilePath);
+        return configFilePath;
+    }
 
+    /**
+     * Returns the {@code Config} in the file at {@code configFilePathUsed}, or the default config if the file is
+     * missing or cannot be read.
+     */
+    private Config readConfig(Path configFilePathUsed) {
+        Config initializedConfig;
         logger.info("Using config file : " + configFilePathUsed);
 
         try {
@@ -135,22 +178,25 @@ public class MainApp extends Application {
                     + " Using default config properties.");
             initializedConfig = new Config();
         }
+        return initializedConfig;
+    }
 
+    private void saveConfig(Config initializedConfig, Path configFilePathUsed) {
         //Update config file in case it was missing to begin with or there are new/unused fields
         try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+            if (!ConfigUtil.saveConfigIfChanged(initializedConfig, configFilePathUsed)) {
+                logger.fine("Config file is up to date : " + configFilePathUsed);
+            }
         } catch (IOException e) {
             logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
         }
-        return initializedConfig;
     }
 
     /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
+     * Returns the {@code UserPrefs} in {@code storage}'s user prefs file, or the default prefs if the file is
+     * missing or cannot be read.
      */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
+    private UserPrefs readPrefs(UserPrefsStorage storage) {
         Path prefsFilePath = storage.getUserPrefsFilePath();
         logger.info("Using preference file : " + prefsFilePath);
 
@@ -166,15 +212,37 @@ public class MainApp extends Application {
                     + " Using default preferences.");
             initializedPrefs = new UserPrefs();
         }
+        return initializedPrefs;
+    }
 
+    private void preloadTemplates(TemplateStorage templateStorage) {
+        try {
+            templateStorage.preloadTemplates();
+        } catch (IOException e) {
+            logger.warning("Failed to preload templates : " + StringUtil.getDetails(e));
+        }
+    }
+
+    private void savePrefs(UserPrefsStorage storage, UserPrefs initializedPrefs) {
         //Update prefs file in case it was missing to begin with or there are new/unused fields
         try {
-            storage.saveUserPrefs(initializedPrefs);
+            if (!storage.saveUserPrefsIfChanged(initializedPrefs)) {
+                logger.fine("Preference file is up to date : " + storage.getUserPrefsFilePath());
+            }
         } catch (IOException e) {
             logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
         }
+    }
 
-        return initializedPrefs;
+    /**
+     * Runs {@code task} on the JavaFX application thread, immediately if this is that thread.
+     */
+    private static void runOnFxThread(Runnable task) {
+        if (Platform.isFxApplicationThread()) {
+            task.run();
+        } else {
+            Platform.runLater(task);
+        }
     }
 
     @Override
@@ -186,8 +254,9 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        logic.flushSaves();
         try {
-            storage.saveUserPrefs(model.getUserPrefs());
+            storage.saveUserPrefsIfChanged(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
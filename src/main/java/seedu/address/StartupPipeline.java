@@ -0,0 +1,119 @@
+package seedu.address;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Runs the independent stages of application startup concurrently on a small pool of daemon threads, logging how
+ * long each stage takes. Stages are expected to handle their own failures; an exception escaping a stage is
+ * rethrown by {@link #awaitAll()}. Closing the pipeline lets the stages already started run to completion.
+ */
+class StartupPipeline implements AutoCloseable {
+    private static final Logger logger = LogsCenter.getLogger(StartupPipeline.class);
+    private static final int THREAD_COUNT = 3;
+
+    private final ExecutorService executor;
+    private final Queue<CompletableFuture<?>> stages = new ConcurrentLinkedQueue<>();
+    private final long startNanos = System.nanoTime();
+
+    StartupPipeline() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(THREAD_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "startup-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts the stage named {@code name} in the background and returns a future for its result.
+     * May be called from within another stage.
+     */
+    <T> CompletableFuture<T> submit(String name, Supplier<T> stage) {
+        CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> time(name, stage), executor);
+        stages.add(future);
+        return future;
+    }
+
+    /**
+     * Starts the stage named {@code name}, which returns nothing, in the background.
+     */
+    CompletableFuture<Void> submit(String name, Runnable stage) {
+        return submit(name, () -> {
+            stage.run();
+            return null;
+        });
+    }
+
+    /**
+     * Starts the stage named {@code name} in the background without {@link #awaitAll()} waiting for it, for work
+     * that only gives later steps a head start. A failure of the stage is logged and otherwise ignored.
+     */
+    void submitHeadStart(String name, Runnable stage) {
+        executor.execute(() -> {
+            try {
+                time(name, () -> {
+                    stage.run();
+                    return null;
+                });
+            } catch (RuntimeException e) {
+                logger.warning("Startup stage '" + name + "' failed : " + StringUtil.getDetails(e));
+            }
+        });
+    }
+
+    /**
+     * Runs the stage named {@code name} on the calling thread, e.g. because later stages depend on its result.
+     */
+    <T> T run(String name, Supplier<T> stage) {
+        return time(name, stage);
+    }
+
+    /**
+     * Waits for every submitted stage to finish, including stages submitted by other stages, and logs the total
+     * startup time so far.
+     */
+    void awaitAll() {
+        try {
+            CompletableFuture<?> stage;
+            while ((stage = stages.poll()) != null) {
+                stage.join();
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        } finally {
+            logger.info(String.format("Startup stages finished in %d ms", elapsedMillis(startNanos)));
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private static <T> T time(String name, Supplier<T> stage) {
+        long stageStartNanos = System.nanoTime();
+        try {
+            return stage.get();
+        } finally {
+            logger.info(String.format("Startup stage '%s' took %d ms", name, elapsedMillis(stageStartNanos)));
+        }
+    }
+
+    private static long elapsedMillis(long fromNanos) {
+        return (System.nanoTime() - fromNanos) / 1_000_000;
+    }
+}
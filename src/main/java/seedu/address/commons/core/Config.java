@@ -17,6 +17,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean isUiBuiltInCode = false;
+    private boolean isUiPrewarmed = false;
+    private boolean isLiveFindEnabled = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +37,39 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if the UI should be built in code rather than loaded from FXML files.
+     */
+    public boolean isUiBuiltInCode() {
+        return isUiBuiltInCode;
+    }
+
+    public void setUiBuiltInCode(boolean isUiBuiltInCode) {
+        this.isUiBuiltInCode = isUiBuiltInCode;
+    }
+
+    /**
+     * Returns true if secondary windows should be built once the app is idle rather than when first opened.
+     */
+    public boolean isUiPrewarmed() {
+        return isUiPrewarmed;
+    }
+
+    public void setUiPrewarmed(boolean isUiPrewarmed) {
+        this.isUiPrewarmed = isUiPrewarmed;
+    }
+
+    /**
+     * Returns true if the person list should be filtered while a find command is typed, before it is entered.
+     */
+    public boolean isLiveFindEnabled() {
+        return isLiveFindEnabled;
+    }
+
+    public void setLiveFindEnabled(boolean isLiveFindEnabled) {
+        this.isLiveFindEnabled = isLiveFindEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +83,15 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && isUiBuiltInCode == otherConfig.isUiBuiltInCode
+                && isUiPrewarmed == otherConfig.isUiPrewarmed
+                && isLiveFindEnabled == otherConfig.isLiveFindEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, isUiBuiltInCode, isUiPrewarmed, isLiveFindEnabled);
     }
 
     @Override
@@ -60,6 +99,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("isUiBuiltInCode", isUiBuiltInCode)
+                .add("isUiPrewarmed", isUiPrewarmed)
+                .add("isLiveFindEnabled", isLiveFindEnabled)
                 .toString();
     }
 
@@ -5,6 +5,7 @@ import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 /**
  * Writes and reads files
@@ -80,4 +81,19 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file unless the file already holds exactly that content, compared byte for byte.
+     * Will create the file if it does not exist yet.
+     * Returns true if the file was written.
+     */
+    public static boolean writeToFileIfChanged(Path file, String content) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        if (Files.isRegularFile(file) && Files.size(file) == bytes.length
+                && Arrays.equals(Files.readAllBytes(file), bytes)) {
+            return false;
+        }
+        Files.write(file, bytes);
+        return true;
+    }
+
 }
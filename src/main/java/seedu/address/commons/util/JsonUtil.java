@@ -11,6 +11,7 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -91,6 +92,20 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Saves the Json object to the specified file unless the file already holds exactly the same JSON, so that a
+     * file which was read without missing or unknown fields is not rewritten.
+     * Returns true if the file was written.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @throws IOException if there was an error during reading or writing the file
+     */
+    public static <T> boolean saveJsonFileIfChanged(T jsonFile, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        return FileUtil.writeToFileIfChanged(filePath, toJsonString(jsonFile));
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -101,6 +116,14 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Returns a streaming parser over {@code json} that can also read values of any class, such as a single element
+     * of a large array, with the same settings as {@link #fromJsonString(String, Class)}.
+     */
+    public static JsonParser createParser(String json) throws IOException {
+        return objectMapper.getFactory().createParser(json);
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
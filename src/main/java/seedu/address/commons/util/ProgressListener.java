@@ -0,0 +1,19 @@
+package seedu.address.commons.util;
+
+/**
+ * Receives progress updates from a long-running operation.
+ * An operation may be cancelled by throwing an unchecked exception, such as a
+ * {@link java.util.concurrent.CancellationException}, from {@link #onProgress(long, long)}.
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+    /** A listener that ignores all updates. */
+    ProgressListener NONE = (workDone, totalWork) -> { };
+
+    /**
+     * Called with the amount of work done so far out of {@code totalWork}, or with {@code -1} for both while the
+     * amount of work is not yet known.
+     */
+    void onProgress(long workDone, long totalWork);
+}
@@ -2,19 +2,25 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.ProgressListener;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.StatusViewState;
 import seedu.address.model.TagsViewState;
 import seedu.address.model.TemplateViewState;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.FindResult;
+import seedu.address.model.query.SavedSearch;
 
 /**
  * API of the Logic component
@@ -29,6 +35,27 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command without waiting for it and returns a future for its result.
+     * Read-only commands read the model on a background thread and only show their result on the thread that changes
+     * the model, so the caller may be that thread. The future fails with a {@code CommandException} if the command
+     * does; it completes on whichever thread finished the command.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText) throws ParseException;
+
+    /**
+     * Sets the handler given the error message of every change that could not be saved.
+     * Changes are saved in the background after their command returns, so the handler is called later, on the same
+     * thread that changes the model.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
+    /**
+     * Blocks until every change made so far has been saved, or has failed to be.
+     */
+    void flushSaves();
+
     /**
      * Returns the AddressBook.
      *
@@ -36,9 +63,39 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the address book as of the latest completed command or import. Safe to call from any thread.
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Parses {@code findArguments}, the text following the {@code find} command word, and evaluates the search
+     * without changing the filtered list. Safe to call from a background thread while commands are executed.
+     * @return the matching persons, which {@link #previewFind} shows without testing every person again.
+     * @throws ParseException If the arguments are not a valid search.
+     */
+    FindResult evaluateFind(String findArguments) throws ParseException;
+
+    /**
+     * Shows {@code result}, from {@link #evaluateFind}, the way entering the find command would, without executing a
+     * command. What was shown before the first of consecutive previews is kept for {@link #endFindPreview()}.
+     * Must be called on the thread that changes the model.
+     */
+    void previewFind(FindResult result);
+
+    /**
+     * Puts back the list and the status and tags views shown before the find preview, unless something else, such
+     * as entering a command, has changed the list since the preview was shown.
+     * Must be called on the thread that changes the model.
+     */
+    void endFindPreview();
+
+    /** Returns an unmodifiable view of the saved searches */
+    ObservableList<SavedSearch> getSavedSearchList();
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -52,6 +109,33 @@ public interface Logic {
      */
     void importJsonString(String jsonString) throws IOException;
 
+    /**
+     * Reads and validates address book data from a JSON string without changing the current data.
+     * Touches no shared state, so it may be called from a background thread.
+     *
+     * @param jsonString the JSON string containing address book data
+     * @param progress told how many of the persons have been validated
+     * @throws IOException if the JSON string does not hold valid address book data
+     */
+    ReadOnlyAddressBook readImportedAddressBook(String jsonString, ProgressListener progress) throws IOException;
+
+    /**
+     * Returns the number of persons in address book data held by a JSON string, without reading or validating them.
+     * Touches no shared state, so it may be called from a background thread.
+     *
+     * @throws IOException if the JSON string is not well-formed
+     */
+    int countImportedPersons(String jsonString) throws IOException;
+
+    /**
+     * Replaces the current data with {@code addressBook}, as read by {@link #readImportedAddressBook}, and saves it in
+     * the background. Called on the thread that changes the model, the data is replaced before this returns, but the
+     * save is never waited for; a save that fails is also reported to the save failure handler.
+     *
+     * @return a future completed once the data is saved, or failed with the {@code IOException} if it could not be
+     */
+    CompletableFuture<Void> importAddressBook(ReadOnlyAddressBook addressBook);
+
     /**
      * Returns the user prefs' GUI settings.
      */
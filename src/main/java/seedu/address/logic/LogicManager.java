@@ -1,8 +1,20 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ReadOnlyObjectProperty;
@@ -10,22 +22,38 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ProgressListener;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.FindCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
+import seedu.address.model.ModelActor;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.StatusViewState;
 import seedu.address.model.TagsViewState;
 import seedu.address.model.TemplateViewState;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.FindResult;
+import seedu.address.model.query.ListFilter;
+import seedu.address.model.query.SavedSearch;
+import seedu.address.storage.AddressBookSaver;
 import seedu.address.storage.JsonAddressBookUtil;
 import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * Commands may be executed from several threads. Commands that change the address book, and imports, are queued on a
+ * {@link ModelActor} that runs them one at a time on the display executor given at construction, the model's only
+ * writer. Read-only commands ({@code find}, {@code list}, {@code export} and {@code template copy}) do their reading
+ * under the actor's shared read lock on the calling thread, or on a pool of reader threads when executed
+ * asynchronously, so any number of them run at once but never alongside a change; only the display of their result is
+ * queued on the actor. Changes are saved in the background by an {@link AddressBookSaver}.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
@@ -38,14 +66,47 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final Executor displayExecutor;
+    private final ModelActor actor;
+    private final ExecutorService readers;
+    private final AddressBookSaver saver;
+    private final ExecutorService prefsWriter;
+    // Only changed by tasks run by the actor
+    private volatile CompletableFuture<Void> lastPrefsSave = CompletableFuture.completedFuture(null);
+    private volatile Consumer<String> saveFailureHandler = message -> { };
+    // Only accessed by tasks run by the actor
+    private FindPreview findPreview;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and
-     * {@code Storage}.
+     * {@code Storage}, changing the model on whichever thread executes a command.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Runnable::run);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and
+     * {@code Storage}, changing the model only from tasks run by {@code displayExecutor}.
+     * The executor must eventually run every task, and callers wait for it to do so.
+     * @see ModelActor#ModelActor(Model, Executor)
+     */
+    public LogicManager(Model model, Storage storage, Executor displayExecutor) {
         this.model = model;
         this.storage = storage;
+        this.displayExecutor = displayExecutor;
+        actor = new ModelActor(model, displayExecutor);
+        readers = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "command-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        saver = new AddressBookSaver(storage, this::reportSaveFailure);
+        prefsWriter = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "prefs-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
         addressBookParser = new AddressBookParser(storage);
     }
 
@@ -53,31 +114,162 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        if (command.isReadOnly()) {
+            // nothing to commit or save
+            Command.Display display = actor.read(command::prepare);
+            return await(actor.submit(display::show), CommandException.class);
+        }
+        return await(actor.submit(model -> executeChange(command, model)), CommandException.class);
+    }
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) throws ParseException {
+        logger.info("----------------[USER COMMAND][" + commandText + "]");
+
+        Command command = addressBookParser.parseCommand(commandText);
+        if (!command.isReadOnly()) {
+            return actor.submit(model -> executeChange(command, model));
         }
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return actor.read(command::prepare);
+            } catch (CommandException e) {
+                throw new CompletionException(e);
+            }
+        }, readers).thenCompose(display -> actor.submit(display::show));
+    }
+
+    /**
+     * Executes {@code command}, which may change the address book, commits the change and saves it in the background.
+     * Runs on the actor.
+     */
+    private CommandResult executeChange(Command command, Model model) throws CommandException {
+        long version = model.getAddressBookSnapshot().getVersion();
+        Map<String, String> savedSearches = new LinkedHashMap<>(model.getUserPrefs().getSavedSearches());
+        CommandResult commandResult = command.execute(model);
+        model.commitAddressBook();
 
+        AddressBookSnapshot snapshot = model.getAddressBookSnapshot();
+        // unchanged when only the displayed state changed
+        if (snapshot.getVersion() != version) {
+            saver.save(snapshot);
+        }
+        if (!model.getUserPrefs().getSavedSearches().equals(savedSearches)) {
+            saveUserPrefs(new UserPrefs(model.getUserPrefs()));
+        }
         return commandResult;
     }
 
+    /**
+     * Saves {@code userPrefs}, a copy that nothing else changes, in the background after any earlier prefs save.
+     * Runs on the actor.
+     */
+    private void saveUserPrefs(UserPrefs userPrefs) {
+        lastPrefsSave = lastPrefsSave.thenRunAsync(() -> {
+            try {
+                storage.saveUserPrefs(userPrefs);
+            } catch (IOException e) {
+                reportSaveFailure(e);
+            }
+        }, prefsWriter);
+    }
+
+    /**
+     * Tells the save failure handler, on the display executor, that a background save failed with {@code e}.
+     */
+    private void reportSaveFailure(IOException e) {
+        String message = e instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+        logger.warning(message);
+        displayExecutor.execute(() -> saveFailureHandler.accept(message));
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        saveFailureHandler = handler;
+    }
+
+    @Override
+    public void flushSaves() {
+        saver.flush();
+        lastPrefsSave.join();
+    }
+
+    /**
+     * Waits for {@code result}, rethrowing its {@code failureType} and unchecked exceptions on this thread.
+     */
+    private <T, E extends Exception> T await(CompletableFuture<T> result, Class<E> failureType) throws E {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the model", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (failureType.isInstance(cause)) {
+                throw failureType.cast(cause);
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
     }
 
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return actor.getSnapshot();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public FindResult evaluateFind(String findArguments) throws ParseException {
+        Predicate<Person> predicate = new FindCommandParser().parse(findArguments).getPredicate();
+        // Commands may change the address book on another thread, so the evaluation must not overlap them
+        return actor.read(model -> model.evaluateFind(predicate));
+    }
+
+    @Override
+    public void previewFind(FindResult result) {
+        requireNonNull(result);
+        actor.submit(model -> {
+            if (findPreview == null || !findPreview.isShown(model)) {
+                findPreview = new FindPreview(model);
+            }
+            FindCommand.showResult(model, result);
+            findPreview.shown = result.getFilter();
+            return null;
+        });
+    }
+
+    @Override
+    public void endFindPreview() {
+        actor.submit(model -> {
+            if (findPreview != null && findPreview.isShown(model)) {
+                findPreview.restore(model);
+            }
+            findPreview = null;
+            return null;
+        });
+    }
+
+    @Override
+    public ObservableList<SavedSearch> getSavedSearchList() {
+        return model.getSavedSearchList();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -85,25 +277,37 @@ public class LogicManager implements Logic {
 
     @Override
     public void importJsonString(String jsonString) throws IOException {
-        ReadOnlyAddressBook addressBook = readAddressBookFromJsonString(jsonString);
-        updateModelAddressBook(addressBook);
-        saveAddressBook(addressBook);
-        logger.info("Successfully imported address book from JSON string");
+        await(importAddressBook(readImportedAddressBook(jsonString, ProgressListener.NONE)), IOException.class);
     }
 
-    /**
-     * Converts a JSON string into a ReadOnlyAddressBook.
-     *
-     * @param jsonString JSON string representing the address book
-     */
-    private ReadOnlyAddressBook readAddressBookFromJsonString(String jsonString) throws IOException {
+    @Override
+    public ReadOnlyAddressBook readImportedAddressBook(String jsonString, ProgressListener progress)
+            throws IOException {
+        try {
+            return JsonAddressBookUtil.readAddressBookFromJsonString(jsonString, progress);
+        } catch (DataLoadingException e) {
+            throw new IOException("Failed to read address book data: ", e);
+        }
+    }
+
+    @Override
+    public int countImportedPersons(String jsonString) throws IOException {
         try {
-            return JsonAddressBookUtil.readAddressBookFromJsonString(jsonString);
+            return JsonAddressBookUtil.countPersons(jsonString);
         } catch (DataLoadingException e) {
             throw new IOException("Failed to read address book data: ", e);
         }
     }
 
+    @Override
+    public CompletableFuture<Void> importAddressBook(ReadOnlyAddressBook addressBook) {
+        return actor.submit(model -> {
+            updateModelAddressBook(addressBook);
+            logger.info("Imported address book from JSON string");
+            return saver.save(model.getAddressBookSnapshot());
+        }).thenCompose(write -> write);
+    }
+
     /**
      * Updates the model's address book.
      *
@@ -111,15 +315,7 @@ public class LogicManager implements Logic {
      */
     private void updateModelAddressBook(ReadOnlyAddressBook addressBook) {
         model.setAddressBook(addressBook);
-    }
-
-    /**
-     * Saves the given address book to storage.
-     *
-     * @param addressBook The address book to save.
-     */
-    private void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        storage.saveAddressBook(addressBook);
+        model.commitAddressBook();
     }
 
     @Override
@@ -161,4 +357,31 @@ public class LogicManager implements Logic {
     public Model getModel() {
         return model;
     }
+
+
+    /**
+     * What was displayed before a find preview, and the filter the preview shows.
+     */
+    private static class FindPreview {
+        private final ListFilter listBefore;
+        private final StatusViewState statusBefore;
+        private final TagsViewState tagsBefore;
+        private Predicate<Person> shown;
+
+        FindPreview(Model model) {
+            listBefore = model.getListFilter();
+            statusBefore = model.getStatusViewStateProperty().get();
+            tagsBefore = model.getTagsViewStateProperty().get();
+        }
+
+        boolean isShown(Model model) {
+            return model.getFilteredPersonListPredicate() == shown;
+        }
+
+        void restore(Model model) {
+            model.setListFilter(listBefore);
+            model.setStatusViewState(statusBefore);
+            model.setTagsViewState(tagsBefore);
+        }
+    }
 }
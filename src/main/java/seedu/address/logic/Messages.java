@@ -1,5 +1,7 @@
 package seedu.address.logic;
 
+import java.util.AbstractList;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -18,6 +20,10 @@ public class Messages {
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
+    public static final String MESSAGE_MORE_ITEMS = "... and %1$d more";
+
+    /** The number of items listed in full in a message before the rest are only counted. */
+    public static final int PREVIEW_LIMIT = 10;
 
     /**
      * Returns an error message indicating the duplicate prefixes.
@@ -35,20 +41,41 @@ public class Messages {
      * Formats the {@code person} for display to the user.
      */
     public static String format(Person person) {
-        final StringBuilder builder = new StringBuilder();
-        builder.append(person.getName())
-                .append("; Phone: ")
-                .append(person.getPhone())
-                .append("; Email: ")
-                .append(person.getEmail())
-                .append("; Address: ")
-                .append(person.getAddress())
-                .append("; Status: ")
-                .append(person.getStatus().name().charAt(0))
-                .append(person.getStatus().name().substring(1).toLowerCase())
-                .append("; Tags: ");
-        person.getTags().forEach(builder::append);
-        return builder.toString();
+        return person.getSummary();
+    }
+
+    /**
+     * Returns an unmodifiable view of {@code persons} formatted for display, in which each person is only formatted
+     * when read. Creating the view costs O(1) however many persons there are.
+     */
+    public static List<String> formatAll(List<? extends Person> persons) {
+        return new AbstractList<>() {
+            @Override
+            public String get(int index) {
+                return format(persons.get(index));
+            }
+
+            @Override
+            public int size() {
+                return persons.size();
+            }
+        };
+    }
+
+    /**
+     * Returns the first {@link #PREVIEW_LIMIT} of {@code lines} as a bulleted list, one per line, followed by a
+     * count of the remaining lines if there are any.
+     */
+    public static String formatPreview(List<String> lines) {
+        int shown = Math.min(lines.size(), PREVIEW_LIMIT);
+        StringBuilder preview = new StringBuilder();
+        for (int i = 0; i < shown; i++) {
+            preview.append("- ").append(lines.get(i)).append("\n");
+        }
+        if (lines.size() > shown) {
+            preview.append(String.format(MESSAGE_MORE_ITEMS, lines.size() - shown));
+        }
+        return preview.toString().trim();
     }
 
 }
@@ -17,4 +17,40 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command does not change the address book, so that it may read it alongside other
+     * read-only commands. Such a command changes at most what is displayed, and only in the {@link Display} returned
+     * by {@link #prepare(Model)}.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
+    /**
+     * Reads what the command needs from {@code model} and returns the step that shows its result.
+     * Read-only commands do all their reading here, possibly on a background thread while other commands read the
+     * model too, and leave the returned step only the changes to what is displayed. That step runs later on the thread
+     * that changes the model. By default, the whole command runs in that step.
+     *
+     * @param model {@code Model} which the command should read, without changing it.
+     * @return the rest of the command, to run on the same model.
+     * @throws CommandException If an error occurs while reading the model.
+     */
+    public Display prepare(Model model) throws CommandException {
+        return this::execute;
+    }
+
+    /**
+     * The part of a command that changes what is displayed and produces its result.
+     */
+    @FunctionalInterface
+    public interface Display {
+        /**
+         * Shows the command's result in {@code model} and returns the result message.
+         *
+         * @throws CommandException If an error occurs while showing the result.
+         */
+        CommandResult show(Model model) throws CommandException;
+    }
+
 }
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
 import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -13,6 +14,9 @@ public class CommandResult {
 
     private final String feedbackToUser;
 
+    /** The full list of items the feedback is about, of which the feedback may only show a preview. */
+    private final List<String> details;
+
     /** Help information should be shown to the user. */
     private final boolean showHelp;
 
@@ -26,7 +30,13 @@ public class CommandResult {
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, boolean showTemplate) {
+        this(feedbackToUser, List.of(), showHelp, exit, showTemplate);
+    }
+
+    private CommandResult(String feedbackToUser, List<String> details, boolean showHelp, boolean exit,
+            boolean showTemplate) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.details = requireNonNull(details);
         this.showHelp = showHelp;
         this.exit = exit;
         this.showTemplate = showTemplate;
@@ -47,10 +57,22 @@ public class CommandResult {
         this(feedbackToUser, false, false);
     }
 
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} summarising the items in
+     * {@code details}, which the UI only reads if the user asks to see them.
+     */
+    public CommandResult(String feedbackToUser, List<String> details) {
+        this(feedbackToUser, details, false, false, false);
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
 
+    public List<String> getDetails() {
+        return details;
+    }
+
     public boolean isShowHelp() {
         return showHelp;
     }
@@ -76,6 +98,7 @@ public class CommandResult {
 
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
+                && details.equals(otherCommandResult.details)
                 && showHelp == otherCommandResult.showHelp
                 && exit == otherCommandResult.exit
                 && showTemplate == otherCommandResult.showTemplate;
@@ -58,9 +58,11 @@ public class DeleteCommand extends Command {
         validateAllIndices(lastShownList);
         List<Person> personsToDelete = collectPersonsToDelete(lastShownList);
         deletePersonsFromModel(model, personsToDelete);
-        String successMessage = formatSuccessMessage(personsToDelete);
-
-        return new CommandResult(successMessage);
+        if (personsToDelete.size() == 1) {
+            return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS,
+                    Messages.format(personsToDelete.get(0))));
+        }
+        return createMultipleDeleteResult(personsToDelete);
     }
 
     /**
@@ -116,33 +118,18 @@ public class DeleteCommand extends Command {
     }
 
     /**
-     * Formats the success message based on the number of persons deleted.
-     *
-     * @param deletedPersons The list of persons that were deleted.
-     * @return A formatted success message.
-     */
-    private String formatSuccessMessage(List<Person> deletedPersons) {
-        if (deletedPersons.size() == 1) {
-            return String.format(MESSAGE_DELETE_PERSON_SUCCESS,
-                    Messages.format(deletedPersons.get(0)));
-        } else {
-            return formatMultipleDeleteMessage(deletedPersons);
-        }
-    }
-
-    /**
-     * Formats the success message for multiple person deletions.
+     * Creates the result for multiple person deletions.
+     * The message only lists the first few deleted persons; the rest are formatted only if the user asks to see
+     * them, so the cost of the message does not grow with the number of persons deleted.
      *
      * @param deletedPersons The list of persons that were deleted.
-     * @return A formatted success message listing all deleted persons.
+     * @return A result whose details list all deleted persons.
      */
-    private String formatMultipleDeleteMessage(List<Person> deletedPersons) {
-        StringBuilder deletedPersonsList = new StringBuilder();
-        for (Person person : deletedPersons) {
-            deletedPersonsList.append("- ").append(Messages.format(person)).append("\n");
-        }
-        return String.format(MESSAGE_DELETE_PERSONS_SUCCESS,
-                deletedPersons.size(), deletedPersonsList.toString().trim());
+    private CommandResult createMultipleDeleteResult(List<Person> deletedPersons) {
+        List<String> deletedPersonsList = Messages.formatAll(deletedPersons);
+        String message = String.format(MESSAGE_DELETE_PERSONS_SUCCESS,
+                deletedPersons.size(), Messages.formatPreview(deletedPersonsList));
+        return new CommandResult(message, deletedPersonsList);
     }
 
     /**
@@ -1,7 +1,9 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
@@ -16,6 +18,7 @@ import seedu.address.model.TagsViewState;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonMatchesKeywordsPredicate;
 import seedu.address.model.person.Status;
+import seedu.address.model.query.FindResult;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the
@@ -38,25 +41,76 @@ public class FindCommand extends Command {
             + "[" + PREFIX_STATUS + "STATUS]\n"
             + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "alice\n"
             + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "free\n"
-            + "Example: " + COMMAND_WORD + " " + PREFIX_STATUS + "uncontacted";
+            + "Example: " + COMMAND_WORD + " " + PREFIX_STATUS + "uncontacted\n"
+            + "Start the criteria with " + PREFIX_QUERY + " to combine them with AND, OR, NOT and parentheses, "
+            + "using * as a wildcard, e.g. " + COMMAND_WORD + " " + PREFIX_QUERY
+            + "(" + PREFIX_TAG + "vip OR " + PREFIX_TAG + "partner) AND NOT "
+            + PREFIX_STATUS + "rejected AND " + PREFIX_EMAIL + "*@acme.com\n"
+            + "Prefix the criteria with \"explain\" to also show how the search was carried out, e.g. "
+            + COMMAND_WORD + " explain " + PREFIX_TAG + "vip " + PREFIX_STATUS + "contacted";
 
     private final Predicate<Person> predicate;
+    private final boolean explain;
 
     public FindCommand(Predicate<Person> predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindCommand that filters by {@code predicate}, describing the executed query plan in the result
+     * if {@code explain} is true.
+     */
+    public FindCommand(Predicate<Person> predicate, boolean explain) {
         this.predicate = predicate;
+        this.explain = explain;
+    }
+
+    public Predicate<Person> getPredicate() {
+        return predicate;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        return show(model, model.evaluateFind(predicate));
+    }
 
-        // Update view states based on filters applied
-        updateStatusViewState(model);
-        updateTagsViewState(model);
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    /**
+     * Evaluates the search against {@code model}, leaving the displayed list to be filtered by the returned step.
+     */
+    @Override
+    public Display prepare(Model model) {
+        requireNonNull(model);
+        FindResult result = model.evaluateFind(predicate);
+        return displayModel -> show(displayModel, result);
+    }
 
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    private CommandResult show(Model model, FindResult result) {
+        showResult(model, result);
+
+        String feedback = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size());
+        if (explain) {
+            feedback += "\n" + result.getPlan().describe();
+        }
+        return new CommandResult(feedback);
+    }
+
+    /**
+     * Shows {@code result} in {@code model}: filters the list to its matches and updates the status and tags view
+     * states to the criteria searched for.
+     */
+    public static void showResult(Model model, FindResult result) {
+        requireNonNull(model);
+        model.showFind(result);
+
+        // Update view states based on filters applied
+        updateStatusViewState(model, result.getQuery());
+        updateTagsViewState(model, result.getQuery());
     }
 
     /**
@@ -64,8 +118,9 @@ public class FindCommand extends Command {
      * filtering.
      *
      * @param model The model to update the status view state in.
+     * @param predicate The predicate used for filtering.
      */
-    private void updateStatusViewState(Model model) {
+    private static void updateStatusViewState(Model model, Predicate<Person> predicate) {
         if (predicate instanceof PersonMatchesKeywordsPredicate) {
             PersonMatchesKeywordsPredicate pred = (PersonMatchesKeywordsPredicate) predicate;
             String statusKeyword = pred.getStatusKeyword();
@@ -92,8 +147,9 @@ public class FindCommand extends Command {
      * filtering.
      *
      * @param model The model to update the tags view state in.
+     * @param predicate The predicate used for filtering.
      */
-    private void updateTagsViewState(Model model) {
+    private static void updateTagsViewState(Model model, Predicate<Person> predicate) {
         if (predicate instanceof PersonMatchesKeywordsPredicate) {
             PersonMatchesKeywordsPredicate pred = (PersonMatchesKeywordsPredicate) predicate;
             List<String> tagKeywords = pred.getTagKeywords();
@@ -121,7 +177,8 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate)
+                && explain == otherFindCommand.explain;
     }
 
     @Override
@@ -25,4 +25,12 @@ public class ListCommand extends Command {
         model.setTagsViewState(TagsViewState.ALL_TAGS);
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    /**
+     * Returns true, as listing only changes what is displayed, and there is nothing to read beforehand.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
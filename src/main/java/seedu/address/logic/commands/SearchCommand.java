@@ -0,0 +1,137 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.StatusViewState;
+import seedu.address.model.TagsViewState;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.SavedSearch;
+
+/**
+ * Saves, deletes or switches to a named find query.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Saves find criteria under a name, lists the persons currently matching a saved search, "
+            + "or deletes a saved search.\n"
+            + "Parameters: save NAME FIND_CRITERIA (to save), NAME (to show), or delete NAME (to delete)\n"
+            + "Examples:\n"
+            + COMMAND_WORD + " save uncontactedVips " + PREFIX_TAG + "vip " + PREFIX_STATUS + "uncontacted\n"
+            + COMMAND_WORD + " uncontactedVips\n"
+            + COMMAND_WORD + " delete uncontactedVips";
+
+    public static final String MESSAGE_SAVE_SUCCESS = "Saved search %1$s (%2$d person(s) currently match)";
+    public static final String MESSAGE_DELETE_SUCCESS = "Deleted saved search %1$s";
+    public static final String MESSAGE_SHOW_SUCCESS = "Showing saved search %1$s\n%2$s";
+    public static final String MESSAGE_UNKNOWN_SEARCH = "There is no saved search named %1$s";
+
+    /**
+     * What a {@code SearchCommand} does with its saved search.
+     */
+    private enum Action {
+        SAVE,
+        DELETE,
+        SHOW
+    }
+
+    private final Action action;
+    private final String name;
+    private final String query;
+    private final Predicate<Person> predicate;
+
+    /**
+     * Creates a SearchCommand that lists the persons matching the saved search {@code name}.
+     */
+    public SearchCommand(String name) {
+        this(Action.SHOW, name, null, null);
+    }
+
+    /**
+     * Creates a SearchCommand that saves the find arguments {@code query}, which parse to {@code predicate},
+     * under {@code name}.
+     */
+    public SearchCommand(String name, String query, Predicate<Person> predicate) {
+        this(Action.SAVE, name, query, predicate);
+        requireNonNull(query);
+        requireNonNull(predicate);
+    }
+
+    private SearchCommand(Action action, String name, String query, Predicate<Person> predicate) {
+        requireNonNull(name);
+        this.action = action;
+        this.name = name;
+        this.query = query;
+        this.predicate = predicate;
+    }
+
+    /**
+     * Returns a SearchCommand that deletes the saved search {@code name}.
+     */
+    public static SearchCommand delete(String name) {
+        return new SearchCommand(Action.DELETE, name, null, null);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (action == Action.SAVE) {
+            SavedSearch search = model.addSavedSearch(name, query, predicate);
+            return new CommandResult(String.format(MESSAGE_SAVE_SUCCESS, name, search.getCount()));
+        }
+
+        if (!model.hasSavedSearch(name)) {
+            throw new CommandException(String.format(MESSAGE_UNKNOWN_SEARCH, name));
+        }
+
+        if (action == Action.DELETE) {
+            model.deleteSavedSearch(name);
+            return new CommandResult(String.format(MESSAGE_DELETE_SUCCESS, name));
+        }
+
+        model.showSavedSearch(name);
+        model.setStatusViewState(StatusViewState.ALL_STATUSES);
+        model.setTagsViewState(TagsViewState.ALL_TAGS);
+        return new CommandResult(String.format(MESSAGE_SHOW_SUCCESS, name,
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size())));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchCommand)) {
+            return false;
+        }
+
+        SearchCommand otherCommand = (SearchCommand) other;
+        return action == otherCommand.action
+                && name.equals(otherCommand.name)
+                && Objects.equals(query, otherCommand.query)
+                && Objects.equals(predicate, otherCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("action", action)
+                .add("name", name)
+                .add("query", query)
+                .toString();
+    }
+}
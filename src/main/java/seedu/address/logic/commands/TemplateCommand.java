@@ -113,6 +113,28 @@ public class TemplateCommand extends Command {
         }
     }
 
+    /**
+     * Returns true for the copy action, which only reads a template.
+     */
+    @Override
+    public boolean isReadOnly() {
+        return isCopyAction;
+    }
+
+    /**
+     * Reads the template to copy, leaving only the clipboard to be set by the returned step.
+     * The other actions change the model, so they run whole in that step.
+     */
+    @Override
+    public Display prepare(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!isCopyAction) {
+            return this::execute;
+        }
+        String content = readTemplate();
+        return displayModel -> copy(content);
+    }
+
     /**
      * Opens the template view for the specified status.
      *
@@ -164,16 +186,23 @@ public class TemplateCommand extends Command {
      * @throws CommandException If there's an error reading the template.
      */
     private CommandResult executeCopy(Model model) throws CommandException {
+        return copy(readTemplate());
+    }
+
+    private String readTemplate() throws CommandException {
         try {
-            String content = templateStorage.readTemplate(status);
-            clipboardProvider.setString(content);
-            String successMessage = createCopySuccessMessage();
-            return new CommandResult(successMessage);
+            return templateStorage.readTemplate(status);
         } catch (IOException e) {
             throw new CommandException(String.format(MESSAGE_STORAGE_ERROR, e.getMessage()));
         }
     }
 
+    private CommandResult copy(String content) {
+        clipboardProvider.setString(content);
+        String successMessage = createCopySuccessMessage();
+        return new CommandResult(successMessage);
+    }
+
     /**
      * Creates a success message for opening a template.
      *
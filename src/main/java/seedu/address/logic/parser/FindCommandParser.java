@@ -11,11 +11,13 @@ import static seedu.address.logic.parser.ParserUtil.parseStatus;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonMatchesKeywordsPredicate;
 
 /**
@@ -23,6 +25,7 @@ import seedu.address.model.person.PersonMatchesKeywordsPredicate;
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    private static final String EXPLAIN_KEYWORD = "explain";
     private static final String MESSAGE_INVALID_STATUS_DUPLICATE = "Only one status filter is allowed at a time!";
     private static final String MESSAGE_INVALID_STATUS = "Invalid status provided: %s\n"
             + "Please use one of the following: Uncontacted, Contacted, Rejected, Accepted, Unreachable, Busy";
@@ -36,6 +39,44 @@ public class FindCommandParser implements Parser<FindCommand> {
      */
     public FindCommand parse(String args) throws ParseException {
         requireNonNull(args);
+
+        // Check for the explain keyword in front of the search criteria
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.toLowerCase().startsWith(EXPLAIN_KEYWORD + " ")) {
+            return new FindCommand(parsePredicate(" " + trimmedArgs.substring(EXPLAIN_KEYWORD.length())), true);
+        }
+
+        return new FindCommand(parsePredicate(args));
+    }
+
+    /**
+     * Parses the search criteria of a saved search, as recorded in the user prefs, into its predicate.
+     *
+     * @throws IllegalArgumentException if the criteria are not a valid search
+     */
+    public static Predicate<Person> parseSavedSearch(String query) {
+        try {
+            return new FindCommandParser().parsePredicate(" " + query);
+        } catch (ParseException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Parses the given {@code String} of search criteria into the predicate used by a FindCommand.
+     *
+     * @param args the search criteria to parse
+     * @return the predicate matching the described persons
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public Predicate<Person> parsePredicate(String args) throws ParseException {
+        requireNonNull(args);
+
+        // Boolean query mode: criteria marked with q: are handed to the query parser
+        if (FindQueryParser.isQuery(args)) {
+            return new FindQueryParser().parse(FindQueryParser.stripMarker(args));
+        }
+
         ArgumentMultimap map = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_TAG, PREFIX_STATUS, PREFIX_PHONE,
                 PREFIX_EMAIL);
 
@@ -55,7 +96,7 @@ public class FindCommandParser implements Parser<FindCommand> {
                         String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
             }
             List<String> keywords = Arrays.asList(trimmed.split("\\s+"));
-            return new FindCommand(new NameContainsKeywordsPredicate(keywords));
+            return new NameContainsKeywordsPredicate(keywords);
         }
 
         // Checks if tag is invalid
@@ -118,8 +159,8 @@ public class FindCommandParser implements Parser<FindCommand> {
             }
         }
 
-        return new FindCommand(new PersonMatchesKeywordsPredicate(nameKeywords, tagKeywords, statusKeyword,
-                phoneKeyword, emailKeyword));
+        return new PersonMatchesKeywordsPredicate(nameKeywords, tagKeywords, statusKeyword, phoneKeyword,
+                emailKeyword);
     }
 
     private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
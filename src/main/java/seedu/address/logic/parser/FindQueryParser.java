@@ -0,0 +1,208 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Status;
+import seedu.address.model.query.AndNode;
+import seedu.address.model.query.NotNode;
+import seedu.address.model.query.OrNode;
+import seedu.address.model.query.PersonIndex;
+import seedu.address.model.query.QueryNode;
+import seedu.address.model.query.TermNode;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses boolean find queries such as {@code (t:vip OR t:partner) AND NOT s:rejected AND e:*@acme.com}
+ * into a {@link QueryNode} tree. In find arguments, a query is marked by starting it with {@code q:}.
+ * {@code NOT} binds tighter than {@code AND}, which binds tighter than {@code OR}, and terms written next to each
+ * other without an operator are combined with {@code AND}.
+ */
+public class FindQueryParser {
+
+    public static final String MESSAGE_INVALID_TERM = "Invalid query term: %s\n"
+            + "Terms must be one of n:NAME, t:TAG, s:STATUS, p:PHONE or e:EMAIL, optionally using * as a wildcard.";
+    public static final String MESSAGE_UNBALANCED_PARENTHESES = "Unbalanced parentheses in query.";
+    public static final String MESSAGE_MISSING_TERM = "Expected a search term after \"%s\".";
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+
+    private static final Map<String, PersonIndex.Field> FIELDS = Map.of(
+            PREFIX_NAME.getPrefix(), PersonIndex.Field.NAME,
+            PREFIX_TAG.getPrefix(), PersonIndex.Field.TAG,
+            PREFIX_STATUS.getPrefix(), PersonIndex.Field.STATUS,
+            PREFIX_PHONE.getPrefix(), PersonIndex.Field.PHONE,
+            PREFIX_EMAIL.getPrefix(), PersonIndex.Field.EMAIL);
+
+    private List<String> tokens;
+    private int position;
+
+    /**
+     * Returns true if {@code args} starts with the {@code q:} marker and so should be parsed as a query.
+     */
+    public static boolean isQuery(String args) {
+        requireNonNull(args);
+        return args.trim().startsWith(PREFIX_QUERY.getPrefix());
+    }
+
+    /**
+     * Returns the query in {@code args} without its leading {@code q:} marker.
+     * {@code args} must be a query, see {@link #isQuery(String)}.
+     */
+    public static String stripMarker(String args) {
+        assert isQuery(args);
+        return args.trim().substring(PREFIX_QUERY.getPrefix().length());
+    }
+
+    /**
+     * Parses {@code args} into a query tree.
+     *
+     * @throws ParseException if {@code args} is not a well-formed query
+     */
+    public QueryNode parse(String args) throws ParseException {
+        requireNonNull(args);
+        tokens = tokenize(args);
+        position = 0;
+        if (tokens.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, String.format(MESSAGE_INVALID_TERM,
+                    "")));
+        }
+
+        QueryNode query = parseOr();
+        if (position < tokens.size()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, tokens.get(position).equals(CLOSE)
+                    ? MESSAGE_UNBALANCED_PARENTHESES
+                    : String.format(MESSAGE_INVALID_TERM, tokens.get(position))));
+        }
+        return query;
+    }
+
+    private QueryNode parseOr() throws ParseException {
+        List<QueryNode> children = new ArrayList<>();
+        children.add(parseAnd());
+        while (accept(OR)) {
+            children.add(parseAnd());
+        }
+        return children.size() == 1 ? children.get(0) : new OrNode(children);
+    }
+
+    private QueryNode parseAnd() throws ParseException {
+        List<QueryNode> children = new ArrayList<>();
+        children.add(parseNot());
+        while (position < tokens.size() && !peek(OR) && !peek(CLOSE)) {
+            accept(AND);
+            children.add(parseNot());
+        }
+        return children.size() == 1 ? children.get(0) : new AndNode(children);
+    }
+
+    private QueryNode parseNot() throws ParseException {
+        if (accept(NOT)) {
+            return new NotNode(parseNot());
+        }
+        return parsePrimary();
+    }
+
+    private QueryNode parsePrimary() throws ParseException {
+        if (position >= tokens.size()) {
+            String previous = position == 0 ? "" : tokens.get(position - 1);
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    String.format(MESSAGE_MISSING_TERM, previous)));
+        }
+        if (accept(OPEN)) {
+            QueryNode inner = parseOr();
+            if (!accept(CLOSE)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        MESSAGE_UNBALANCED_PARENTHESES));
+            }
+            return inner;
+        }
+        String token = tokens.get(position);
+        if (token.equals(CLOSE) || token.equals(AND) || token.equals(OR)) {
+            String previous = position == 0 ? "" : tokens.get(position - 1);
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    String.format(MESSAGE_MISSING_TERM, previous)));
+        }
+        position++;
+        return parseTerm(token);
+    }
+
+    /**
+     * Parses a single {@code prefix:value} term, validating the value for its field.
+     */
+    private static TermNode parseTerm(String token) throws ParseException {
+        int separator = token.indexOf(':');
+        PersonIndex.Field field = separator < 0 ? null : FIELDS.get(token.substring(0, separator + 1));
+        String value = separator < 0 ? "" : token.substring(separator + 1);
+        if (field == null || value.isEmpty() || !isValidValue(field, value)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    String.format(MESSAGE_INVALID_TERM, token)));
+        }
+        return new TermNode(field, value);
+    }
+
+    private static boolean isValidValue(PersonIndex.Field field, String value) {
+        boolean isWildcard = value.contains(TermNode.WILDCARD);
+        switch (field) {
+        case TAG:
+            String literal = value.replace(TermNode.WILDCARD, "");
+            return literal.isEmpty() ? isWildcard : Tag.isValidTagName(literal);
+        case STATUS:
+            return isWildcard || Status.isValidStatus(value);
+        default:
+            return true;
+        }
+    }
+
+    private boolean peek(String expected) {
+        return position < tokens.size() && tokens.get(position).equals(expected);
+    }
+
+    private boolean accept(String expected) {
+        if (peek(expected)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Splits {@code args} on whitespace, treating each parenthesis as a token of its own.
+     */
+    private static List<String> tokenize(String args) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (char c : args.toCharArray()) {
+            if (Character.isWhitespace(c) || c == '(' || c == ')') {
+                if (current.length() > 0) {
+                    tokens.add(current.toString());
+                    current.setLength(0);
+                }
+                if (!Character.isWhitespace(c)) {
+                    tokens.add(String.valueOf(c));
+                }
+            } else {
+                current.append(c);
+            }
+        }
+        if (current.length() > 0) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+}
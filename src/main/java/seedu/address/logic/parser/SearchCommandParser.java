@@ -0,0 +1,63 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.function.Predicate;
+
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.SavedSearch;
+
+/**
+ * Parses input arguments and creates a new SearchCommand object.
+ */
+public class SearchCommandParser implements Parser<SearchCommand> {
+
+    private static final String SAVE_KEYWORD = "save";
+    private static final String DELETE_KEYWORD = "delete";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SearchCommand
+     * and returns a SearchCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public SearchCommand parse(String args) throws ParseException {
+        String[] words = args.trim().split("\\s+", 3);
+
+        if (words[0].isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+        }
+
+        if (words[0].equalsIgnoreCase(SAVE_KEYWORD)) {
+            if (words.length < 3) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+            }
+            String query = words[2];
+            Predicate<Person> predicate = new FindCommandParser().parsePredicate(" " + query);
+            return new SearchCommand(parseName(words[1]), query, predicate);
+        }
+
+        if (words[0].equalsIgnoreCase(DELETE_KEYWORD)) {
+            if (words.length != 2) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+            }
+            return SearchCommand.delete(parseName(words[1]));
+        }
+
+        if (words.length != 1) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+        }
+        return new SearchCommand(parseName(words[0]));
+    }
+
+    private static String parseName(String name) throws ParseException {
+        if (!SavedSearch.isValidName(name)) {
+            throw new ParseException(SavedSearch.MESSAGE_CONSTRAINTS);
+        }
+        return name;
+    }
+}
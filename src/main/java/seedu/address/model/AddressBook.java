@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.List;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
@@ -15,21 +16,15 @@ import seedu.address.model.person.UniquePersonList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
-    private final UniquePersonList persons;
+    private UniquePersonList persons;
 
-    /*
-     * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
-     * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
-     *
-     * Note that non-static init blocks are not recommended to use. There are other ways to avoid duplication
-     *   among constructors.
-     */
-    {
+    /** Incremented on every mutation so that derived state can tell when it is stale. */
+    private long version;
+
+    public AddressBook() {
         persons = new UniquePersonList();
     }
 
-    public AddressBook() {}
-
     /**
      * Creates an AddressBook using the Persons in the {@code toBeCopied}
      */
@@ -38,6 +33,26 @@ public class AddressBook implements ReadOnlyAddressBook {
         resetData(toBeCopied);
     }
 
+    /**
+     * Creates an AddressBook that takes over {@code persons} without copying them.
+     */
+    AddressBook(UniquePersonList persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+    }
+
+    /**
+     * Hands this book's persons over to a new owner, see {@link #AddressBook(UniquePersonList)}.
+     * This book is left empty, with a new list of its own, so that using it afterwards cannot change the persons it
+     * gave away.
+     */
+    UniquePersonList releasePersons() {
+        UniquePersonList released = persons;
+        persons = new UniquePersonList();
+        version++;
+        return released;
+    }
+
     //// list overwrite operations
 
     /**
@@ -45,6 +60,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        version++;
         this.persons.setPersons(persons);
     }
 
@@ -72,6 +88,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
+        version++;
         persons.add(p);
     }
 
@@ -83,6 +100,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
+        version++;
         persons.setPerson(target, editedPerson);
     }
 
@@ -91,9 +109,42 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        version++;
         persons.remove(key);
     }
 
+    /**
+     * Moves the persons to {@code target}, a version they have already held, in O(1) apart from notifying listeners.
+     *
+     * @see UniquePersonList#restore(PersistentList, int, int, int)
+     */
+    void restorePersons(PersistentList<Person> target, int from, int removedCount, int addedCount) {
+        version++;
+        persons.restore(target, from, removedCount, addedCount);
+    }
+
+    /**
+     * Returns the current version of the persons, in O(1).
+     */
+    PersistentList<Person> getPersistentPersons() {
+        return persons.getSnapshot();
+    }
+
+    /**
+     * Returns the modification version of this address book.
+     * The version is bumped before the person list changes, so list listeners already observe the new version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns an immutable snapshot of the current contents, in O(1).
+     */
+    public AddressBookSnapshot getSnapshot() {
+        return new AddressBookSnapshot(getPersistentPersons(), version);
+    }
+
     //// util methods
 
     @Override
@@ -0,0 +1,75 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable point-in-time view of an {@code AddressBook}.
+ * Taking a snapshot costs O(1) as it shares the book's persistent person list, and later changes to the book never
+ * show through, so a snapshot can be read from any thread, e.g. to save or export, while the book keeps changing.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersistentList<Person> persons;
+    private final long version;
+    private final ObservableList<Person> personList;
+
+    /**
+     * Creates a snapshot holding {@code persons}, taken at modification {@code version} of the book.
+     */
+    AddressBookSnapshot(PersistentList<Person> persons, long version) {
+        requireNonNull(persons);
+        this.persons = persons;
+        this.version = version;
+        this.personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons.asList()));
+    }
+
+    /**
+     * Returns the persons in the snapshot as an unmodifiable list that never changes.
+     * Element access costs O(log n).
+     */
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return personList;
+    }
+
+    /**
+     * Returns the modification version of the address book this snapshot was taken at.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return personList.equals(otherSnapshot.personList);
+    }
+
+    @Override
+    public int hashCode() {
+        return personList.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("version", version)
+                .toString();
+    }
+}
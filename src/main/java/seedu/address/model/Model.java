@@ -6,7 +6,11 @@ import java.util.function.Predicate;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.event.ChangeFeed;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.FindResult;
+import seedu.address.model.query.ListFilter;
+import seedu.address.model.query.SavedSearch;
 
 /**
  * The API of the Model component.
@@ -53,6 +57,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable point-in-time view of the address book, in O(1).
+     * Unlike {@link #getAddressBook()}, the snapshot is safe to read from other threads while the model changes.
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -77,6 +87,38 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the feed of changes made to the address book since this model was created.
+     * A snapshot from {@link #getAddressBookSnapshot()} and the feed's version read on the model's thread describe
+     * the same state, so a subscriber can start from the snapshot and follow the feed from that version.
+     */
+    ChangeFeed getChangeFeed();
+
+    /**
+     * Saves the changes made to the address book since the last commit as one undoable step.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is an address book change that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone address book change that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Reverts the address book to the state before the latest committed change.
+     */
+    void undoAddressBook();
+
+    /**
+     * Re-applies the latest undone address book change.
+     */
+    void redoAddressBook();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -86,6 +128,69 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Returns the predicate the filtered person list is currently filtered by, which is
+     * {@link #PREDICATE_SHOW_ALL_PERSONS} if it has never been filtered.
+     */
+    Predicate<Person> getFilteredPersonListPredicate();
+
+    /**
+     * Lets the query planner evaluate {@code predicate} without changing what is displayed, and returns the result
+     * for {@link #showFind(FindResult)}. Shown, it filters the list the same as
+     * {@link #updateFilteredPersonList(Predicate)} with {@code predicate} does. May be called from several threads at
+     * once, off the JavaFX thread, as long as the address book does not change meanwhile.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    FindResult evaluateFind(Predicate<Person> predicate);
+
+    /**
+     * Filters the filtered person list to the matches in {@code result}, which must come from
+     * {@link #evaluateFind(Predicate)} on this model. No person is tested again unless the address book has changed
+     * since the result was evaluated.
+     * @throws NullPointerException if {@code result} is null.
+     */
+    void showFind(FindResult result);
+
+    /**
+     * Returns the filter of the filtered person list together with the positions of the persons it shows, so that
+     * it can be put back later with {@link #setListFilter(ListFilter)}.
+     */
+    ListFilter getListFilter();
+
+    /**
+     * Filters the filtered person list by {@code filter}, taking its positions as they are if the address book is
+     * still at the version they were found at, and testing every person otherwise.
+     * @throws NullPointerException if {@code filter} is null.
+     */
+    void setListFilter(ListFilter filter);
+
+    /**
+     * Returns true if a saved search called {@code name} exists.
+     */
+    boolean hasSavedSearch(String name);
+
+    /**
+     * Saves the find arguments {@code query}, which parse to {@code predicate}, as a search called {@code name}
+     * and starts maintaining its matches. Replaces any saved search with the same name.
+     * @return the new saved search.
+     */
+    SavedSearch addSavedSearch(String name, String query, Predicate<Person> predicate);
+
+    /**
+     * Deletes the saved search called {@code name}.
+     * The saved search must exist.
+     */
+    void deleteSavedSearch(String name);
+
+    /**
+     * Filters the filtered person list to the current matches of the saved search called {@code name}.
+     * The saved search must exist.
+     */
+    void showSavedSearch(String name);
+
+    /** Returns an unmodifiable view of the saved searches, in the order they were saved */
+    ObservableList<SavedSearch> getSavedSearchList();
+
     /**
      * Returns the status view state property for observing changes.
      */
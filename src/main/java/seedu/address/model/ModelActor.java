@@ -0,0 +1,137 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Owns every change to a {@code Model}, so that the model can be used safely from several threads.
+ * Changes are queued by {@link #submit} from any thread and run one at a time by the owner executor, which is the
+ * model's single writer. In the app that is the JavaFX thread, since the displayed list and view states are bound to
+ * it. Each run of the owner executor drains every change queued so far, so changes submitted together by background
+ * threads reach the UI in one batch and are laid out and rendered once.
+ * Other threads can read the latest published snapshot of the address book without locking, or read the model itself
+ * through {@link #read}, which shares a read lock with other readers and excludes the writer.
+ */
+public class ModelActor {
+    private static final Logger logger = LogsCenter.getLogger(ModelActor.class);
+
+    private final Model model;
+    private final Executor ownerExecutor;
+    private final Queue<QueuedTask<?, ?>> queue = new ConcurrentLinkedQueue<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile AddressBookSnapshot snapshot;
+
+    /**
+     * Creates an actor that takes ownership of {@code model}, which must only be changed through it afterwards.
+     * {@code ownerExecutor} must run tasks one at a time, and eventually run every task handed to it. If it runs a task
+     * straight away when called from its own thread, as the app's JavaFX executor does, that thread may wait on the
+     * futures returned by {@link #submit} without deadlocking.
+     */
+    public ModelActor(Model model, Executor ownerExecutor) {
+        requireAllNonNull(model, ownerExecutor);
+        this.model = model;
+        this.ownerExecutor = ownerExecutor;
+        snapshot = model.getAddressBookSnapshot();
+    }
+
+    /**
+     * Queues {@code task} to change the model on the owner executor and returns a future for its result.
+     * The future fails with the task's exception if it throws. Tasks run in the order they were submitted.
+     */
+    public <T, E extends Exception> CompletableFuture<T> submit(ModelTask<T, E> task) {
+        QueuedTask<T, E> queued = new QueuedTask<>(task);
+        queue.add(queued);
+        ownerExecutor.execute(this::drain);
+        return queued.result;
+    }
+
+    /**
+     * Runs {@code task} on the calling thread while holding the read lock, so that it sees no change half done.
+     * Any number of reads run at once, but never while a queued task is changing the model. {@code task} must not
+     * change the model.
+     */
+    public <T, E extends Exception> T read(ModelTask<T, E> task) throws E {
+        lock.readLock().lock();
+        try {
+            return task.run(model);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the address book as of the latest completed task. Safe to call from any thread without locking.
+     */
+    public AddressBookSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Runs every queued task. Runs on the owner executor, which may find the queue already emptied by an earlier run.
+     */
+    private void drain() {
+        int ran = 0;
+        for (QueuedTask<?, ?> next = queue.poll(); next != null; next = queue.poll()) {
+            lock.writeLock().lock();
+            try {
+                next.run(model);
+                snapshot = model.getAddressBookSnapshot();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            // completed outside the lock, so that work chained on the future may read the model
+            next.complete();
+            ran++;
+        }
+        if (ran > 1) {
+            logger.fine("Ran " + ran + " queued model changes in one batch");
+        }
+    }
+
+    /**
+     * Work done with the model, which may fail with an {@code E}.
+     */
+    @FunctionalInterface
+    public interface ModelTask<T, E extends Exception> {
+        T run(Model model) throws E;
+    }
+
+    /**
+     * A submitted task together with the future for its result.
+     */
+    private static class QueuedTask<T, E extends Exception> {
+        private final ModelTask<T, E> task;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private T value;
+        private Throwable failure;
+
+        QueuedTask(ModelTask<T, E> task) {
+            this.task = task;
+        }
+
+        void run(Model model) {
+            try {
+                value = task.run(model);
+            } catch (Throwable e) {
+                failure = e;
+            }
+        }
+
+        void complete() {
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                result.complete(value);
+            }
+        }
+    }
+}
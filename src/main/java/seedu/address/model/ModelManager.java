@@ -4,49 +4,105 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.event.ChangeFeed;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.FilteredPersonList;
+import seedu.address.model.query.FindResult;
+import seedu.address.model.query.ListFilter;
+import seedu.address.model.query.PersonIndex;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.QueryPlanner;
+import seedu.address.model.query.SavedSearch;
 
 /**
  * Represents the in-memory model of the address book data.
+ * Read-only queries such as {@link #evaluateFind} may run on several threads at once as long as nothing changes the
+ * address book meanwhile; updates to the displayed list and view states are serialized.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
+    private final VersionedAddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final FilteredPersonList filteredPersons;
+    private final QueryPlanner queryPlanner;
+    private final ChangeFeed changeFeed = new ChangeFeed(ChangeFeed.DEFAULT_CAPACITY);
+    private final ObservableList<SavedSearch> savedSearches = FXCollections.observableArrayList();
     private final ObjectProperty<StatusViewState> statusViewState;
     private final ObjectProperty<TagsViewState> tagsViewState;
     private final ObjectProperty<TemplateViewState> templateViewState;
+    private final SavedSearch.QueryParser queryParser;
 
     /**
-     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Initializes a ModelManager with a copy of the given addressBook and userPrefs.
+     * Saved searches in the user prefs are not restored, since there is no parser for their queries.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+        this(addressBook, userPrefs, ModelManager::rejectQuery);
+    }
+
+    /**
+     * Initializes a ModelManager with a copy of the given addressBook and userPrefs, restoring the saved searches
+     * recorded in the user prefs with {@code queryParser}.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs,
+            SavedSearch.QueryParser queryParser) {
+        this(new VersionedAddressBook(requireNonNull(addressBook)), userPrefs, queryParser);
+    }
+
+    public ModelManager() {
+        this(new AddressBook(), new UserPrefs());
+    }
+
+    private ModelManager(VersionedAddressBook addressBook, ReadOnlyUserPrefs userPrefs,
+            SavedSearch.QueryParser queryParser) {
+        requireAllNonNull(addressBook, userPrefs, queryParser);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = addressBook;
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        // Registered first, so that saved searches have caught up before the filtered list tests any person
+        this.addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            changeFeed.publish(change, this.addressBook::getSnapshot);
+            savedSearches.forEach(SavedSearch::catchUp);
+        });
+        filteredPersons = new FilteredPersonList(this.addressBook.getPersonList());
+        queryPlanner = new QueryPlanner(new PersonIndex(this.addressBook.getPersonList()),
+                this.addressBook::getVersion, this.userPrefs::getParallelFindThreshold);
         statusViewState = new SimpleObjectProperty<>(StatusViewState.ALL_STATUSES);
         tagsViewState = new SimpleObjectProperty<>(TagsViewState.ALL_TAGS);
         templateViewState = new SimpleObjectProperty<>(null); // null means not in template view mode
+        this.queryParser = queryParser;
+        restoreSavedSearches();
     }
 
-    public ModelManager() {
-        this(new AddressBook(), new UserPrefs());
+    /**
+     * Returns a ModelManager that takes over {@code addressBook} instead of copying it, for a book that nothing else
+     * holds on to, such as one just read from storage. Its persons are not checked for duplicates again.
+     * {@code addressBook} must not be used by the caller afterwards.
+     * Saved searches in the user prefs are restored with {@code queryParser}.
+     */
+    public static ModelManager adopt(AddressBook addressBook, ReadOnlyUserPrefs userPrefs,
+            SavedSearch.QueryParser queryParser) {
+        return new ModelManager(VersionedAddressBook.adopt(addressBook), userPrefs, queryParser);
+    }
+
+    private static Predicate<Person> rejectQuery(String query) {
+        throw new IllegalArgumentException("No parser for saved search queries");
     }
 
     //=========== UserPrefs ==================================================================================
@@ -55,6 +111,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        restoreSavedSearches();
     }
 
     @Override
@@ -96,6 +153,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return addressBook.getSnapshot();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -120,6 +182,36 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public ChangeFeed getChangeFeed() {
+        return changeFeed;
+    }
+
+    @Override
+    public void commitAddressBook() {
+        addressBook.commit();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        addressBook.undo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        addressBook.redo();
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -132,11 +224,114 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void updateFilteredPersonList(Predicate<Person> predicate) {
+    public synchronized void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    @SuppressWarnings("unchecked") // the list is only ever filtered through updateFilteredPersonList
+    public synchronized Predicate<Person> getFilteredPersonListPredicate() {
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        return predicate == null ? PREDICATE_SHOW_ALL_PERSONS : (Predicate<Person>) predicate;
+    }
+
+    @Override
+    public FindResult evaluateFind(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        QueryPlan plan = queryPlanner.plan(predicate);
+        FindResult result = plan.execute();
+        logger.fine(plan.describe());
+        return result;
+    }
+
+    @Override
+    public void showFind(FindResult result) {
+        requireNonNull(result);
+        setListFilter(result.getMatches());
+    }
+
+    @Override
+    public synchronized ListFilter getListFilter() {
+        return new ListFilter(getFilteredPersonListPredicate(), filteredPersons.getSourcePositions(),
+                addressBook.getVersion());
+    }
+
+    @Override
+    public synchronized void setListFilter(ListFilter filter) {
+        requireNonNull(filter);
+        if (filter.getVersion() == addressBook.getVersion()) {
+            filteredPersons.setMatches(filter.getFilter(), filter.getPositions());
+        } else {
+            filteredPersons.setPredicate(filter.getFilter());
+        }
+    }
+
+    //=========== Saved Searches =============================================================================
+
+    @Override
+    public boolean hasSavedSearch(String name) {
+        requireNonNull(name);
+        return findSavedSearch(name) != null;
+    }
+
+    @Override
+    public SavedSearch addSavedSearch(String name, String query, Predicate<Person> predicate) {
+        requireAllNonNull(name, query, predicate);
+        SavedSearch search = new SavedSearch(name, query, predicate, changeFeed, addressBook::getSnapshot);
+        SavedSearch existing = findSavedSearch(name);
+        if (existing != null) {
+            savedSearches.set(savedSearches.indexOf(existing), search);
+        } else {
+            savedSearches.add(search);
+        }
+        userPrefs.putSavedSearch(name, query);
+        return search;
+    }
+
+    @Override
+    public void deleteSavedSearch(String name) {
+        requireNonNull(name);
+        SavedSearch search = findSavedSearch(name);
+        assert search != null;
+        savedSearches.remove(search);
+        userPrefs.removeSavedSearch(name);
+    }
+
+    @Override
+    public void showSavedSearch(String name) {
+        requireNonNull(name);
+        SavedSearch search = findSavedSearch(name);
+        assert search != null;
+        updateFilteredPersonList(search.asFilter());
+    }
+
+    @Override
+    public ObservableList<SavedSearch> getSavedSearchList() {
+        return FXCollections.unmodifiableObservableList(savedSearches);
+    }
+
+    /**
+     * Replaces the saved searches with the ones recorded in the user prefs. Searches whose queries no longer parse
+     * are skipped, but stay in the user prefs.
+     */
+    private void restoreSavedSearches() {
+        List<SavedSearch> restored = new ArrayList<>();
+        userPrefs.getSavedSearches().forEach((name, query) -> {
+            try {
+                restored.add(new SavedSearch(name, query, queryParser.parse(query), changeFeed,
+                        addressBook::getSnapshot));
+            } catch (IllegalArgumentException e) {
+                logger.warning("Skipping saved search " + name + " that could not be restored: " + e.getMessage());
+            }
+        });
+        savedSearches.setAll(restored);
+    }
+
+    private SavedSearch findSavedSearch(String name) {
+        return savedSearches.stream().filter(search -> search.getName().equals(name)).findFirst().orElse(null);
+    }
+
     //=========== Status View State ==========================================================================
 
     @Override
@@ -145,7 +340,7 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void setStatusViewState(StatusViewState state) {
+    public synchronized void setStatusViewState(StatusViewState state) {
         requireNonNull(state);
         statusViewState.set(state);
     }
@@ -158,7 +353,7 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void setTagsViewState(TagsViewState state) {
+    public synchronized void setTagsViewState(TagsViewState state) {
         requireNonNull(state);
         tagsViewState.set(state);
     }
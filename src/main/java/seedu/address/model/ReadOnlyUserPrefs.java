@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Map;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -13,4 +14,14 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the address book size from which find falls back to evaluating predicates in parallel.
+     */
+    int getParallelFindThreshold();
+
+    /**
+     * Returns the saved searches, mapping each search name to its find arguments.
+     */
+    Map<String, String> getSavedSearches();
+
 }
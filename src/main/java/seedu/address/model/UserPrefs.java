@@ -1,9 +1,13 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
@@ -13,8 +17,12 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_PARALLEL_FIND_THRESHOLD = 100_000;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private int parallelFindThreshold = DEFAULT_PARALLEL_FIND_THRESHOLD;
+    private Map<String, String> savedSearches = new LinkedHashMap<>();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +44,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setParallelFindThreshold(newUserPrefs.getParallelFindThreshold());
+        setSavedSearches(newUserPrefs.getSavedSearches());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +66,44 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getParallelFindThreshold() {
+        return parallelFindThreshold;
+    }
+
+    public void setParallelFindThreshold(int parallelFindThreshold) {
+        checkArgument(parallelFindThreshold > 0, "Parallel find threshold must be positive");
+        this.parallelFindThreshold = parallelFindThreshold;
+    }
+
+    public Map<String, String> getSavedSearches() {
+        return Collections.unmodifiableMap(savedSearches);
+    }
+
+    /**
+     * Replaces the saved searches with {@code savedSearches}, a map from search name to find arguments.
+     */
+    public void setSavedSearches(Map<String, String> savedSearches) {
+        requireNonNull(savedSearches);
+        this.savedSearches = new LinkedHashMap<>(savedSearches);
+    }
+
+    /**
+     * Saves the find arguments {@code query} under {@code name}, replacing any search with the same name.
+     */
+    public void putSavedSearch(String name, String query) {
+        requireNonNull(name);
+        requireNonNull(query);
+        savedSearches.put(name, query);
+    }
+
+    /**
+     * Removes the saved search called {@code name}, if any.
+     */
+    public void removeSavedSearch(String name) {
+        requireNonNull(name);
+        savedSearches.remove(name);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +117,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && parallelFindThreshold == otherUserPrefs.parallelFindThreshold
+                && savedSearches.equals(otherUserPrefs.savedSearches);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, parallelFindThreshold, savedSearches);
     }
 
     @Override
@@ -82,6 +132,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nParallel find threshold : " + parallelFindThreshold);
+        sb.append("\nSaved searches : " + savedSearches);
         return sb.toString();
     }
 
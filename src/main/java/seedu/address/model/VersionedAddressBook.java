@@ -0,0 +1,154 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * An {@code AddressBook} that remembers the changes made by each committed command so that they can be undone
+ * and redone.
+ * Each change is recorded as the versions of the persistent person list before and after it, which share all
+ * untouched structure, so a revision costs O(log n) memory per changed person, even for clearing the whole book.
+ * Undoing or redoing a change swaps the list back to the recorded version in O(1); listeners of the person list are
+ * then told about the change as if it had just been made, and update themselves as they do for any other edit.
+ */
+public class VersionedAddressBook extends AddressBook {
+
+    private final List<List<Edit>> revisions = new ArrayList<>();
+    private final List<Edit> pendingEdits = new ArrayList<>();
+    private int currentRevision;
+    private boolean isReplaying;
+    private PersistentList<Person> lastSeenPersons;
+
+    /**
+     * Creates a {@code VersionedAddressBook} holding the persons in {@code toBeCopied}, with an empty history.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook toBeCopied) {
+        super(toBeCopied);
+        lastSeenPersons = getPersistentPersons();
+        getPersonList().addListener(this::recordEdits);
+    }
+
+    private VersionedAddressBook(UniquePersonList persons) {
+        super(persons);
+        lastSeenPersons = getPersistentPersons();
+        getPersonList().addListener(this::recordEdits);
+    }
+
+    /**
+     * Returns a {@code VersionedAddressBook} with an empty history that takes over the persons of
+     * {@code addressBook} instead of copying and re-checking them. {@code addressBook} must not be used afterwards.
+     */
+    static VersionedAddressBook adopt(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        checkArgument(!(addressBook instanceof VersionedAddressBook), "Cannot adopt a book that records its history");
+        return new VersionedAddressBook(addressBook.releasePersons());
+    }
+
+    /**
+     * Saves the changes made since the last commit as a revision, discarding any revisions that were undone.
+     * Does nothing if nothing has changed.
+     */
+    public void commit() {
+        if (pendingEdits.isEmpty()) {
+            return;
+        }
+        revisions.subList(currentRevision, revisions.size()).clear();
+        revisions.add(List.copyOf(pendingEdits));
+        pendingEdits.clear();
+        currentRevision++;
+    }
+
+    /**
+     * Returns true if there is a change to undo.
+     */
+    public boolean canUndo() {
+        return currentRevision > 0 || !pendingEdits.isEmpty();
+    }
+
+    /**
+     * Returns true if there is an undone revision to redo.
+     */
+    public boolean canRedo() {
+        return pendingEdits.isEmpty() && currentRevision < revisions.size();
+    }
+
+    /**
+     * Reverts the latest revision, committing any uncommitted changes first.
+     */
+    public void undo() {
+        commit();
+        if (currentRevision == 0) {
+            throw new IllegalStateException("No revision to undo");
+        }
+        List<Edit> edits = revisions.get(--currentRevision);
+        replay(() -> {
+            for (int i = edits.size() - 1; i >= 0; i--) {
+                Edit edit = edits.get(i);
+                restorePersons(edit.before, edit.from, edit.addedCount, edit.removedCount);
+            }
+        });
+    }
+
+    /**
+     * Re-applies the latest undone revision.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("No revision to redo");
+        }
+        List<Edit> edits = revisions.get(currentRevision++);
+        replay(() -> edits.forEach(edit ->
+                restorePersons(edit.after, edit.from, edit.removedCount, edit.addedCount)));
+    }
+
+    private void replay(Runnable steps) {
+        isReplaying = true;
+        try {
+            steps.run();
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    /**
+     * Records the change from the last version of the persons seen to the current one.
+     * The person list reports each change to a new version on its own, so a change holds a single edit.
+     */
+    private void recordEdits(ListChangeListener.Change<? extends Person> change) {
+        PersistentList<Person> before = lastSeenPersons;
+        lastSeenPersons = getPersistentPersons();
+        if (isReplaying || !change.next()) {
+            return;
+        }
+        pendingEdits.add(new Edit(change.getFrom(), change.getRemovedSize(), change.getAddedSize(), before,
+                lastSeenPersons));
+    }
+
+    /**
+     * A single change to the person list: at index {@code from}, {@code removedCount} persons of {@code before} were
+     * replaced by {@code addedCount} persons, giving {@code after}.
+     */
+    private static class Edit {
+        private final int from;
+        private final int removedCount;
+        private final int addedCount;
+        private final PersistentList<Person> before;
+        private final PersistentList<Person> after;
+
+        Edit(int from, int removedCount, int addedCount, PersistentList<Person> before, PersistentList<Person> after) {
+            this.from = from;
+            this.removedCount = removedCount;
+            this.addedCount = addedCount;
+            this.before = before;
+            this.after = after;
+        }
+    }
+}
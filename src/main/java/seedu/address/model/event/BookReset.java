@@ -0,0 +1,36 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBookSnapshot;
+
+/**
+ * The whole person list was replaced, e.g. by {@code clear} or an import. Subscribers should rebuild their state
+ * from {@code contents}.
+ */
+public class BookReset extends ModelEvent {
+
+    private final AddressBookSnapshot contents;
+
+    /**
+     * Creates the event with feed version {@code version}.
+     */
+    public BookReset(long version, AddressBookSnapshot contents) {
+        super(version);
+        requireNonNull(contents);
+        this.contents = contents;
+    }
+
+    public AddressBookSnapshot getContents() {
+        return contents;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", getVersion())
+                .add("size", contents.getPersonList().size())
+                .toString();
+    }
+}
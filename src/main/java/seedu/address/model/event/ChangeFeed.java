@@ -0,0 +1,167 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.person.Person;
+
+/**
+ * A versioned stream of {@link ModelEvent}s kept in a fixed-size ring buffer.
+ * Events are published by a single writer, the thread that mutates the model, and read without locks by any number
+ * of subscribers, each tracking the last version it has applied. A subscriber that falls more than the buffer's
+ * capacity behind can no longer catch up and must rebuild its state from a fresh snapshot instead.
+ */
+public class ChangeFeed {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final AtomicReferenceArray<ModelEvent> slots;
+    private final int mask;
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Creates a feed remembering the latest {@code capacity} events. {@code capacity} must be a power of two.
+     */
+    public ChangeFeed(int capacity) {
+        checkArgument(capacity > 0 && Integer.bitCount(capacity) == 1, "Capacity must be a power of two");
+        slots = new AtomicReferenceArray<>(capacity);
+        mask = capacity - 1;
+    }
+
+    /**
+     * Returns the version of the latest published event, or 0 if none has been published.
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Publishes {@code event}, whose version must directly follow the feed's current version.
+     * Must only be called from the writing thread.
+     */
+    public void publish(ModelEvent event) {
+        requireNonNull(event);
+        long next = version.get() + 1;
+        checkArgument(event.getVersion() == next, "Expected event version " + next);
+        slots.set(slot(next), event);
+        version.set(next);
+    }
+
+    /**
+     * Publishes the events describing {@code change} to the person list.
+     * A replacement of the whole list becomes a single {@link BookReset} holding {@code contents}; other
+     * changes become one event per affected person. Must only be called from the writing thread.
+     */
+    public void publish(ListChangeListener.Change<? extends Person> change, Supplier<AddressBookSnapshot> contents) {
+        requireNonNull(change);
+        requireNonNull(contents);
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            int from = change.getFrom();
+            List<? extends Person> removed = change.getRemoved();
+            List<? extends Person> added = change.getAddedSubList();
+            int previousSize = change.getList().size() - added.size() + removed.size();
+
+            if (removed.size() == 1 && added.size() == 1) {
+                publish(new PersonUpdated(next(), from, removed.get(0), added.get(0)));
+            } else if (from == 0 && removed.size() == previousSize && added.size() == change.getList().size()
+                    && removed.size() + added.size() > 1) {
+                publish(new BookReset(next(), contents.get()));
+            } else {
+                for (Person person : removed) {
+                    publish(new PersonRemoved(next(), from, person));
+                }
+                for (int i = 0; i < added.size(); i++) {
+                    publish(new PersonAdded(next(), from + i, added.get(i)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the events published after {@code fromVersion}, oldest first, or an empty optional if some of them
+     * have already been overwritten.
+     */
+    public Optional<List<ModelEvent>> eventsSince(long fromVersion) {
+        long latest = version.get();
+        checkArgument(fromVersion >= 0 && fromVersion <= latest, "Unknown version " + fromVersion);
+        if (latest - fromVersion > slots.length()) {
+            return Optional.empty();
+        }
+        List<ModelEvent> events = new ArrayList<>((int) (latest - fromVersion));
+        for (long v = fromVersion + 1; v <= latest; v++) {
+            ModelEvent event = slots.get(slot(v));
+            if (event == null || event.getVersion() != v) {
+                // the writer lapped us while reading
+                return Optional.empty();
+            }
+            events.add(event);
+        }
+        return Optional.of(events);
+    }
+
+    /**
+     * Returns a subscription that starts reading after {@code fromVersion}.
+     */
+    public Subscription subscribe(long fromVersion) {
+        checkArgument(fromVersion >= 0 && fromVersion <= version.get(), "Unknown version " + fromVersion);
+        return new Subscription(fromVersion);
+    }
+
+    private long next() {
+        return version.get() + 1;
+    }
+
+    private int slot(long eventVersion) {
+        return (int) (eventVersion & mask);
+    }
+
+    /**
+     * A reader's position in the feed. Each subscription should be polled by one thread at a time.
+     */
+    public class Subscription {
+        private long version;
+
+        private Subscription(long version) {
+            this.version = version;
+        }
+
+        /**
+         * Returns the version of the last event returned by {@link #poll()}.
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        /**
+         * Returns the events published since the last poll and moves past them, or an empty optional if the
+         * subscription fell too far behind; its position is then left unchanged.
+         */
+        public Optional<List<ModelEvent>> poll() {
+            Optional<List<ModelEvent>> events = eventsSince(version);
+            events.filter(list -> !list.isEmpty())
+                    .ifPresent(list -> version = list.get(list.size() - 1).getVersion());
+            return events;
+        }
+
+        /**
+         * Moves the subscription to {@code newVersion}, e.g. after rebuilding from a snapshot taken at that version.
+         */
+        public void resetTo(long newVersion) {
+            checkArgument(newVersion >= 0 && newVersion <= ChangeFeed.this.version.get(),
+                    "Unknown version " + newVersion);
+            version = newVersion;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package seedu.address.model.event;
+
+/**
+ * A change to the address book, published through a {@link ChangeFeed}.
+ * Versions are consecutive, so a subscriber that has applied every event up to version {@code v} knows exactly
+ * which events it still needs.
+ */
+public abstract class ModelEvent {
+
+    private final long version;
+
+    protected ModelEvent(long version) {
+        this.version = version;
+    }
+
+    /**
+     * Returns the position of this event in the feed, starting from 1.
+     */
+    public long getVersion() {
+        return version;
+    }
+}
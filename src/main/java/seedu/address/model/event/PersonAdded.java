@@ -0,0 +1,42 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * {@code person} was inserted into the person list at {@code index}.
+ */
+public class PersonAdded extends ModelEvent {
+
+    private final int index;
+    private final Person person;
+
+    /**
+     * Creates the event with feed version {@code version}.
+     */
+    public PersonAdded(long version, int index, Person person) {
+        super(version);
+        requireNonNull(person);
+        this.index = index;
+        this.person = person;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", getVersion())
+                .add("index", index)
+                .add("person", person)
+                .toString();
+    }
+}
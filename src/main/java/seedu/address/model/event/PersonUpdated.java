@@ -0,0 +1,49 @@
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * The person at {@code index} was replaced: {@code oldPerson} is now {@code newPerson}.
+ */
+public class PersonUpdated extends ModelEvent {
+
+    private final int index;
+    private final Person oldPerson;
+    private final Person newPerson;
+
+    /**
+     * Creates the event with feed version {@code version}.
+     */
+    public PersonUpdated(long version, int index, Person oldPerson, Person newPerson) {
+        super(version);
+        requireAllNonNull(oldPerson, newPerson);
+        this.index = index;
+        this.oldPerson = oldPerson;
+        this.newPerson = newPerson;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Person getOldPerson() {
+        return oldPerson;
+    }
+
+    public Person getNewPerson() {
+        return newPerson;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", getVersion())
+                .add("index", index)
+                .add("oldPerson", oldPerson)
+                .add("newPerson", newPerson)
+                .toString();
+    }
+}
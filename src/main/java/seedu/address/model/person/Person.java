@@ -2,13 +2,12 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
@@ -23,9 +22,13 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
     private final Status status;
 
+    // Derived values, computed on first use as persons are immutable
+    private int hash;
+    private String summary;
+
     /**
      * Every field must be present and not null.
      */
@@ -35,7 +38,7 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
         this.status = status == null ? Status.UNCONTACTED : status;
     }
 
@@ -59,8 +62,8 @@ public class Person {
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+    public TagSet getTags() {
+        return tags;
     }
 
     public Status getStatus() {
@@ -68,8 +71,31 @@ public class Person {
     }
 
     public String getStatusText() {
-        String statusName = this.getStatus().name();
-        return statusName.charAt(0) + statusName.substring(1).toLowerCase();
+        return status.getDisplayText();
+    }
+
+    /**
+     * Returns a one-line summary of all the person's details for display to the user.
+     */
+    public String getSummary() {
+        String result = summary;
+        if (result == null) {
+            StringBuilder builder = new StringBuilder();
+            builder.append(name)
+                    .append("; Phone: ")
+                    .append(phone)
+                    .append("; Email: ")
+                    .append(email)
+                    .append("; Address: ")
+                    .append(address)
+                    .append("; Status: ")
+                    .append(getStatusText())
+                    .append("; Tags: ");
+            tags.forEach(builder::append);
+            result = builder.toString();
+            summary = result;
+        }
+        return result;
     }
 
     /**
@@ -101,6 +127,9 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
+        if (hash != 0 && otherPerson.hash != 0 && hash != otherPerson.hash) {
+            return false;
+        }
         return name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
@@ -111,8 +140,13 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags, status);
+        int result = hash;
+        if (result == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            result = Objects.hash(name, phone, email, address, tags, status);
+            hash = result;
+        }
+        return result;
     }
 
     @Override
@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
@@ -40,8 +41,7 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
 
         boolean matchesTag = tagKeywords.isEmpty() || tagKeywords.stream()
-                .anyMatch(keyword -> person.getTags().stream()
-                        .anyMatch(tag -> StringUtil.containsWordIgnoreCase(tag.tagName, keyword)));
+                .anyMatch(keyword -> person.getTags().containsIgnoreCase(keyword.trim()));
 
         boolean matchesStatus = statusKeyword == null || statusKeyword.isEmpty()
                 || statusKeyword.equalsIgnoreCase(person.getStatus().name());
@@ -55,6 +55,15 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
         return matchesName && matchesTag && matchesStatus && matchesPhone && matchesEmail;
     }
 
+    /**
+     * Returns the name keywords used for filtering.
+     *
+     * @return The list of name keywords.
+     */
+    public List<String> getNameKeywords() {
+        return nameKeywords;
+    }
+
     /**
      * Returns the status keyword used for filtering.
      *
@@ -112,6 +121,11 @@ public class PersonMatchesKeywordsPredicate implements Predicate<Person> {
                         : emailKeyword.equals(otherPredicate.emailKeyword));
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(nameKeywords, tagKeywords, statusKeyword, phoneKeyword, emailKeyword);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
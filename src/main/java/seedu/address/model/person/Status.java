@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import java.util.List;
 import java.util.Locale;
 
 /**
@@ -17,6 +18,8 @@ public class Status {
             + allowedValuesDescription();
     public static final String VALIDATION_REGEX = "^(Uncontacted|Contacted|Rejected|Accepted|Unreachable|Busy)$";
 
+    private static final List<Status> VALUES = List.of(UNCONTACTED, CONTACTED, REJECTED, ACCEPTED, UNREACHABLE, BUSY);
+
     /**
      * Enum containing the constant status values.
      */
@@ -30,15 +33,38 @@ public class Status {
     }
 
     private final StatusValue value;
+    private final String displayText;
 
     private Status(StatusValue value) {
         this.value = value;
+        this.displayText = value.name().charAt(0) + value.name().substring(1).toLowerCase(Locale.ROOT);
     }
 
     public String name() {
         return value.name();
     }
 
+    /**
+     * Returns the status name as shown to the user, e.g. {@code Contacted}.
+     */
+    public String getDisplayText() {
+        return displayText;
+    }
+
+    /**
+     * Returns the position of this status in {@link #values()}, for compact encodings.
+     */
+    public int ordinal() {
+        return value.ordinal();
+    }
+
+    /**
+     * Returns every status, ordered by {@link #ordinal()}.
+     */
+    public static List<Status> values() {
+        return VALUES;
+    }
+
     /**
      * Returns true if the provided string corresponds to a valid {@code Status}, ignoring case.
      *
@@ -3,11 +3,14 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -20,20 +23,27 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * The persons are held in a {@link PersistentList} and the observable list is a read-only view of its current
+ * version. Every version can therefore be captured in O(1), shares all unchanged structure with the versions before
+ * and after it, and can be returned to in O(1) with {@link #restore}. Reading a person by index costs O(log n).
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Person> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final PersonListView internalList = new PersonListView();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        for (Person person : internalList.persons) {
+            if (toCheck.isSamePerson(person)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -45,7 +55,8 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        PersistentList<Person> persons = internalList.persons;
+        internalList.change(persons.add(toAdd), persons.size(), 0, 1);
     }
 
     /**
@@ -56,7 +67,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,7 +76,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        internalList.change(internalList.persons.set(index, editedPerson), index, 1, 1);
     }
 
     /**
@@ -74,14 +85,16 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        internalList.change(internalList.persons.remove(index), index, 1, 0);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceAll(replacement.internalList.persons);
     }
 
     /**
@@ -94,19 +107,42 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
+        replaceAll(PersistentList.of(persons));
+    }
+
+    /**
+     * Moves the list to {@code version} without checking for duplicates, in O(1) apart from notifying listeners.
+     * {@code version} must differ from the current contents only in that the {@code removedCount} persons from index
+     * {@code from} were replaced by {@code addedCount} persons. Only meant for stepping between versions the list has
+     * already held, which are unique.
+     */
+    public void restore(PersistentList<Person> version, int from, int removedCount, int addedCount) {
+        requireNonNull(version);
+        int size = internalList.persons.size();
+        if (from < 0 || removedCount < 0 || addedCount < 0 || from + removedCount > size
+                || version.size() != size - removedCount + addedCount) {
+            throw new IndexOutOfBoundsException("Invalid change of [" + from + ", " + (from + removedCount) + ")");
+        }
+        internalList.change(version, from, removedCount, addedCount);
+    }
+
+    /**
+     * Returns the current contents of the list as an immutable snapshot, in O(1).
+     */
+    public PersistentList<Person> getSnapshot() {
+        return internalList.persons;
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Person> asUnmodifiableObservableList() {
-        return internalUnmodifiableList;
+        return internalList;
     }
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalList.persons.iterator();
     }
 
     @Override
@@ -134,17 +170,77 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void replaceAll(PersistentList<Person> persons) {
+        internalList.change(persons, 0, internalList.persons.size(), persons.size());
+    }
+
+    /**
+     * Returns the index of the first person equal to {@code person}, or -1 if there is none, in O(n).
+     */
+    private int indexOf(Person person) {
+        int index = 0;
+        for (Person current : internalList.persons) {
+            if (current.equals(person)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        // Persons are the same person exactly when their phones are equal, see Person#isSamePerson
+        Set<Phone> phones = new HashSet<>();
+        for (Person person : persons) {
+            if (!phones.add(person.getPhone())) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * A read-only observable view of the current version of the persons, which reports each move to a new version
+     * as a single change.
+     */
+    private static class PersonListView extends ObservableListBase<Person> {
+        private PersistentList<Person> persons = PersistentList.empty();
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+
+        @Override
+        public Iterator<Person> iterator() {
+            return persons.iterator();
+        }
+
+        /**
+         * Moves to {@code newPersons}, in which the {@code removedCount} persons from index {@code from} have been
+         * replaced by {@code addedCount} persons. The removed persons are reported straight from the old version,
+         * which never changes, so nothing is copied.
+         */
+        void change(PersistentList<Person> newPersons, int from, int removedCount, int addedCount) {
+            PersistentList<Person> oldPersons = persons;
+            persons = newPersons;
+            if (removedCount == 0 && addedCount == 0) {
+                return;
+            }
+            beginChange();
+            try {
+                nextReplace(from, from + addedCount, oldPersons.asList().subList(from, from + removedCount));
+            } finally {
+                endChange();
+            }
+        }
+    }
 }
@@ -0,0 +1,132 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.Person;
+
+/**
+ * Per-field bitmaps over a {@link PersonIndex}'s persons, used to evaluate {@link QueryNode}s with set operations.
+ * Each person holds a slot for as long as it is in the list, and the bitmaps are indexed by slot rather than list
+ * position, so that adding or removing a person only sets or clears that person's bit in each cached bitmap.
+ * Bitmaps are built lazily from the index buckets the first time a term asks for them, and the least recently
+ * used ones are dropped once more than {@link #MAX_CACHED_TERMS} are held.
+ * <p>
+ * Evaluations only read the bitmaps and may run concurrently, but must not overlap with changes to the list.
+ */
+public class BitmapIndex {
+
+    /** The most term bitmaps kept up to date at once. */
+    static final int MAX_CACHED_TERMS = 64;
+
+    private final PersonIndex index;
+    private final List<Person> slots = new ArrayList<>();
+    private final Map<Person, Integer> slotOf = new IdentityHashMap<>();
+    private final BitSet occupied = new BitSet();
+    private final Map<TermNode, BitSet> termCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<TermNode, BitSet> eldest) {
+                    return size() > MAX_CACHED_TERMS;
+                }
+            });
+
+    /**
+     * Creates a bitmap index over {@code index} and keeps it in sync with later changes to its persons.
+     */
+    public BitmapIndex(PersonIndex index) {
+        requireNonNull(index);
+        this.index = index;
+        index.getPersons().forEach(this::add);
+        index.getPersons().addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Returns the persons matching {@code node}.
+     */
+    public Set<Person> evaluate(QueryNode node) {
+        BitSet matches = node.evaluate(this);
+        Set<Person> matched = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.stream().forEach(slot -> matched.add(slots.get(slot)));
+        return matched;
+    }
+
+    /**
+     * Returns a new bitmap of the slots currently holding a person.
+     */
+    BitSet all() {
+        return (BitSet) occupied.clone();
+    }
+
+    /**
+     * Returns the bitmap of persons matching {@code term}.
+     * Exact terms read a single index bucket; wildcard terms union the buckets of every matching key.
+     */
+    BitSet term(TermNode term) {
+        BitSet cached = termCache.get(term);
+        if (cached != null) {
+            return cached;
+        }
+        BitSet bits = new BitSet(slots.size());
+        if (term.isWildcard()) {
+            index.keys(term.getField()).stream()
+                    .filter(term::matches)
+                    .forEach(key -> setAll(bits, index.lookup(term.getField(), key)));
+        } else {
+            setAll(bits, index.lookup(term.getField(), term.getPattern()));
+        }
+        termCache.put(term, bits);
+        return bits;
+    }
+
+    private void setAll(BitSet bits, Set<Person> bucket) {
+        for (Person person : bucket) {
+            bits.set(slotOf.get(person));
+        }
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(Person person) {
+        int slot = occupied.nextClearBit(0);
+        if (slot == slots.size()) {
+            slots.add(person);
+        } else {
+            slots.set(slot, person);
+        }
+        slotOf.put(person, slot);
+        occupied.set(slot);
+        synchronized (termCache) {
+            termCache.forEach((term, bits) -> bits.set(slot, term.test(person)));
+        }
+    }
+
+    private void remove(Person person) {
+        Integer slot = slotOf.remove(person);
+        if (slot == null) {
+            return;
+        }
+        slots.set(slot, null);
+        occupied.clear(slot);
+        synchronized (termCache) {
+            termCache.values().forEach(bits -> bits.clear(slot));
+        }
+    }
+}
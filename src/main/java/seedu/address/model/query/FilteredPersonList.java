@@ -0,0 +1,280 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.address.model.person.Person;
+
+/**
+ * A filtered view of a list of persons, like {@link javafx.collections.transformation.FilteredList}, that can also be
+ * given its matches directly.
+ * The view keeps the ascending positions in the source list of the persons it shows. {@link #setPredicate} tests
+ * every person, but {@link #setMatches} takes the positions from a search already evaluated elsewhere, such as on a
+ * background thread, so that showing its result costs no test at all. Either way, persons added to or updated in the
+ * source later are tested against the predicate as they change.
+ */
+public class FilteredPersonList extends TransformationList<Person, Person> {
+    private final ObservableList<Person> source;
+    private int[] positions;
+    private int size;
+    private Predicate<? super Person> predicate;
+
+    /**
+     * Creates a view showing every person in {@code source}.
+     */
+    public FilteredPersonList(ObservableList<Person> source) {
+        super(source);
+        this.source = source;
+        positions = new int[source.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = i;
+        }
+        size = positions.length;
+    }
+
+    /**
+     * Returns the predicate the persons shown were accepted by, or null if every person is shown.
+     */
+    public Predicate<? super Person> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows the persons accepted by {@code predicate}, testing every person in the source list.
+     * A null predicate shows every person.
+     */
+    public void setPredicate(Predicate<? super Person> predicate) {
+        int[] accepted = new int[source.size()];
+        int count = 0;
+        int index = 0;
+        for (Person person : source) {
+            if (predicate == null || predicate.test(person)) {
+                accepted[count++] = index;
+            }
+            index++;
+        }
+        this.predicate = predicate;
+        replaceAll(accepted, count);
+    }
+
+    /**
+     * Shows the persons at {@code matches}, the ascending positions in the source list of exactly the persons that
+     * {@code predicate} accepts, without testing any of them.
+     */
+    public void setMatches(Predicate<? super Person> predicate, int[] matches) {
+        requireNonNull(matches);
+        assert isAscendingWithin(matches, source.size()) : "Matches must be ascending positions in the source";
+        this.predicate = predicate;
+        replaceAll(matches.clone(), matches.length);
+    }
+
+    /**
+     * Returns the positions in the source list of the persons shown, in ascending order.
+     */
+    public int[] getSourcePositions() {
+        return Arrays.copyOf(positions, size);
+    }
+
+    @Override
+    public Person get(int index) {
+        return source.get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        Objects.checkIndex(index, size);
+        return positions[index];
+    }
+
+    @Override
+    public int getViewIndex(int sourceIndex) {
+        int found = Arrays.binarySearch(positions, 0, size, sourceIndex);
+        return found < 0 ? -1 : found;
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Person> change) {
+        beginChange();
+        try {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    permute(change);
+                } else if (change.wasUpdated()) {
+                    update(change);
+                } else {
+                    addRemove(change);
+                }
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Replaces the shown positions with the first {@code newSize} of {@code newPositions}, reporting a single change.
+     */
+    private void replaceAll(int[] newPositions, int newSize) {
+        if (!hasListeners()) {
+            positions = newPositions;
+            size = newSize;
+            return;
+        }
+        // The persons removed are looked up only if a listener asks for them, while the source is still unchanged
+        int[] oldPositions = positions;
+        List<Person> removed = new PositionsView(source, oldPositions, size);
+        positions = newPositions;
+        size = newSize;
+        beginChange();
+        try {
+            nextRemove(0, removed);
+            if (newSize > 0) {
+                nextAdd(0, newSize);
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    private void permute(ListChangeListener.Change<? extends Person> change) {
+        int[] moved = new int[size];
+        for (int i = 0; i < size; i++) {
+            moved[i] = change.getPermutation(positions[i]);
+        }
+        int[] sorted = moved.clone();
+        Arrays.sort(sorted);
+        int[] permutation = new int[size];
+        for (int i = 0; i < size; i++) {
+            permutation[i] = Arrays.binarySearch(sorted, moved[i]);
+        }
+        positions = sorted;
+        nextPermutation(0, size, permutation);
+    }
+
+    private void update(ListChangeListener.Change<? extends Person> change) {
+        for (int sourceIndex = change.getFrom(); sourceIndex < change.getTo(); sourceIndex++) {
+            Person person = source.get(sourceIndex);
+            boolean accepted = accepts(person);
+            int found = Arrays.binarySearch(positions, 0, size, sourceIndex);
+            if (found >= 0 && accepted) {
+                nextUpdate(found);
+            } else if (found >= 0) {
+                System.arraycopy(positions, found + 1, positions, found, size - found - 1);
+                size--;
+                nextRemove(found, person);
+            } else if (accepted) {
+                int insertAt = -found - 1;
+                insert(insertAt, new int[] {sourceIndex}, 1);
+                nextAdd(insertAt, insertAt + 1);
+            }
+        }
+    }
+
+    private void addRemove(ListChangeListener.Change<? extends Person> change) {
+        int from = change.getFrom();
+        int removedSize = change.getRemovedSize();
+        int start = lowerBound(from);
+        int end = lowerBound(from + removedSize);
+        if (end > start) {
+            List<? extends Person> removed = change.getRemoved();
+            List<Person> removedShown = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                removedShown.add(removed.get(positions[i] - from));
+            }
+            nextRemove(start, removedShown);
+        }
+
+        // the persons after the change keep their place in the view but move in the source
+        int shift = change.getAddedSize() - removedSize;
+        System.arraycopy(positions, end, positions, start, size - end);
+        size -= end - start;
+        for (int i = start; i < size; i++) {
+            positions[i] += shift;
+        }
+
+        List<? extends Person> added = change.getAddedSubList();
+        int[] accepted = new int[added.size()];
+        int count = 0;
+        for (int i = 0; i < accepted.length; i++) {
+            if (accepts(added.get(i))) {
+                accepted[count++] = from + i;
+            }
+        }
+        if (count > 0) {
+            insert(start, accepted, count);
+            nextAdd(start, start + count);
+        }
+    }
+
+    /**
+     * Inserts the first {@code count} of {@code inserted} at view position {@code at}.
+     */
+    private void insert(int at, int[] inserted, int count) {
+        if (size + count > positions.length) {
+            positions = Arrays.copyOf(positions, Math.max(size + count, positions.length * 2));
+        }
+        System.arraycopy(positions, at, positions, at + count, size - at);
+        System.arraycopy(inserted, 0, positions, at, count);
+        size += count;
+    }
+
+    /**
+     * Returns the view position of the first person shown at or after {@code sourceIndex}.
+     */
+    private int lowerBound(int sourceIndex) {
+        int found = Arrays.binarySearch(positions, 0, size, sourceIndex);
+        return found < 0 ? -found - 1 : found;
+    }
+
+    private boolean accepts(Person person) {
+        return predicate == null || predicate.test(person);
+    }
+
+    private static boolean isAscendingWithin(int[] matches, int bound) {
+        for (int i = 0; i < matches.length; i++) {
+            if (matches[i] < 0 || matches[i] >= bound || (i > 0 && matches[i] <= matches[i - 1])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The persons at some positions of a list, looked up when read.
+     */
+    private static class PositionsView extends AbstractList<Person> {
+        private final List<Person> source;
+        private final int[] positions;
+        private final int size;
+
+        PositionsView(List<Person> source, int[] positions, int size) {
+            this.source = source;
+            this.positions = positions;
+            this.size = size;
+        }
+
+        @Override
+        public Person get(int index) {
+            Objects.checkIndex(index, size);
+            return source.get(positions[index]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * The outcome of evaluating a find query: the query itself, the filter that shows its matches along with where they
+ * are in the person list, and the plan that produced it.
+ */
+public class FindResult {
+    private final Predicate<Person> query;
+    private final ListFilter matches;
+    private final QueryPlan plan;
+
+    /**
+     * Creates the result of executing {@code plan} for {@code query}, whose matches are the persons accepted by the
+     * filter of {@code matches}.
+     */
+    public FindResult(Predicate<Person> query, ListFilter matches, QueryPlan plan) {
+        requireAllNonNull(query, matches, plan);
+        this.query = query;
+        this.matches = matches;
+        this.plan = plan;
+    }
+
+    /**
+     * Returns the predicate that was searched for.
+     */
+    public Predicate<Person> getQuery() {
+        return query;
+    }
+
+    public Predicate<Person> getFilter() {
+        return matches.getFilter();
+    }
+
+    public ListFilter getMatches() {
+        return matches;
+    }
+
+    public QueryPlan getPlan() {
+        return plan;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .add("matches", matches)
+                .add("strategy", plan.getStrategy())
+                .toString();
+    }
+}
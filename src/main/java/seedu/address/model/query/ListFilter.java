@@ -0,0 +1,55 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A filter for the displayed person list together with the persons it accepted at one version of the address book,
+ * given as their ascending positions in the person list.
+ * While the address book is still at that version, the filter can be shown without testing any person.
+ */
+public class ListFilter {
+    private final Predicate<Person> filter;
+    private final int[] positions;
+    private final long version;
+
+    /**
+     * Creates a filter whose matches at address book version {@code version} are the persons at {@code positions}.
+     * {@code positions} must not be changed afterwards.
+     */
+    public ListFilter(Predicate<Person> filter, int[] positions, long version) {
+        requireNonNull(filter);
+        requireNonNull(positions);
+        this.filter = filter;
+        this.positions = positions;
+        this.version = version;
+    }
+
+    public Predicate<Person> getFilter() {
+        return filter;
+    }
+
+    /**
+     * Returns the positions of the matches in the person list. The array must not be changed.
+     */
+    public int[] getPositions() {
+        return positions;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filter", filter)
+                .add("matches", positions.length)
+                .add("version", version)
+                .toString();
+    }
+}
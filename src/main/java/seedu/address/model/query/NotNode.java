@@ -0,0 +1,64 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Matches persons not matched by its child.
+ */
+public class NotNode implements QueryNode {
+    private final QueryNode child;
+
+    /**
+     * Creates a negation of {@code child}.
+     */
+    public NotNode(QueryNode child) {
+        requireNonNull(child);
+        this.child = child;
+    }
+
+    public QueryNode getChild() {
+        return child;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !child.test(person);
+    }
+
+    @Override
+    public BitSet evaluate(BitmapIndex index) {
+        BitSet result = index.all();
+        result.andNot(child.evaluate(index));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotNode)) {
+            return false;
+        }
+
+        NotNode otherNode = (NotNode) other;
+        return child.equals(otherNode.child);
+    }
+
+    @Override
+    public int hashCode() {
+        return ~child.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("child", child).toString();
+    }
+}
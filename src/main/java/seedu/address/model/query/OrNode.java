@@ -0,0 +1,68 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Matches persons matched by any of its children.
+ */
+public class OrNode implements QueryNode {
+    private final List<QueryNode> children;
+
+    /**
+     * Creates a disjunction of {@code children}, which must not be empty.
+     */
+    public OrNode(List<QueryNode> children) {
+        requireNonNull(children);
+        assert !children.isEmpty();
+        this.children = List.copyOf(children);
+    }
+
+    public List<QueryNode> getChildren() {
+        return children;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return children.stream().anyMatch(child -> child.test(person));
+    }
+
+    @Override
+    public BitSet evaluate(BitmapIndex index) {
+        BitSet result = (BitSet) children.get(0).evaluate(index).clone();
+        for (int i = 1; i < children.size(); i++) {
+            result.or(children.get(i).evaluate(index));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrNode)) {
+            return false;
+        }
+
+        OrNode otherNode = (OrNode) other;
+        return children.equals(otherNode.children);
+    }
+
+    @Override
+    public int hashCode() {
+        return children.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("children", children).toString();
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.query;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Evaluates a predicate over a snapshot of persons by splitting it into ranges on the common ForkJoin pool.
+ * Each task marks matches in its own slice of a shared flag array, so no synchronisation is needed
+ * and the flags stay in list order.
+ */
+class ParallelScan extends RecursiveAction {
+
+    /** Ranges at most this long are evaluated sequentially rather than split further. */
+    static final int CHUNK_SIZE = 4096;
+
+    private final Person[] persons;
+    private final boolean[] matches;
+    private final Predicate<Person> predicate;
+    private final int from;
+    private final int to;
+
+    private ParallelScan(Person[] persons, boolean[] matches, Predicate<Person> predicate, int from, int to) {
+        this.persons = persons;
+        this.matches = matches;
+        this.predicate = predicate;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Returns the ascending positions in {@code persons} of those accepted by {@code predicate}, which must be safe
+     * to call from multiple threads at once.
+     * The calling thread waits until every range is done, so it must be a background thread, such as the one reading
+     * a find command's result, and never the JavaFX thread; the matches are shown afterwards in a single update.
+     */
+    static int[] evaluate(Person[] persons, Predicate<Person> predicate) {
+        boolean[] matches = new boolean[persons.length];
+        ForkJoinPool.commonPool().invoke(new ParallelScan(persons, matches, predicate, 0, persons.length));
+
+        int[] positions = new int[persons.length];
+        int count = 0;
+        for (int i = 0; i < persons.length; i++) {
+            if (matches[i]) {
+                positions[count++] = i;
+            }
+        }
+        return Arrays.copyOf(positions, count);
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= CHUNK_SIZE) {
+            for (int i = from; i < to; i++) {
+                matches[i] = predicate.test(persons[i]);
+            }
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        invokeAll(new ParallelScan(persons, matches, predicate, from, mid),
+                new ParallelScan(persons, matches, predicate, mid, to));
+    }
+}
@@ -0,0 +1,204 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+/**
+ * Secondary indexes over a list of persons, kept up to date as the list changes.
+ * Keys are case-folded so that a lookup returns exactly the persons that an
+ * {@code equalsIgnoreCase} comparison against the same keyword would accept.
+ */
+public class PersonIndex {
+
+    /**
+     * The person fields that are indexed.
+     */
+    public enum Field {
+        NAME,
+        TAG,
+        STATUS,
+        PHONE,
+        EMAIL
+    }
+
+    private final ObservableList<Person> persons;
+    private final Map<Field, Map<String, Bucket>> indexes = new EnumMap<>(Field.class);
+
+    /**
+     * Creates a {@code PersonIndex} over {@code persons} and keeps it in sync with later changes to the list.
+     */
+    public PersonIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+        for (Field field : Field.values()) {
+            indexes.put(field, new HashMap<>());
+        }
+        persons.forEach(this::index);
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Returns the number of persons covered by this index.
+     */
+    public int size() {
+        return persons.size();
+    }
+
+    /**
+     * Returns the list of persons covered by this index.
+     */
+    ObservableList<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the number of persons whose {@code field} matches {@code keyword}.
+     */
+    public int count(Field field, String keyword) {
+        Bucket bucket = indexes.get(field).get(normalize(keyword));
+        return bucket == null ? 0 : bucket.size();
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons whose {@code field} matches {@code keyword}.
+     */
+    public Set<Person> lookup(Field field, String keyword) {
+        Bucket bucket = indexes.get(field).get(normalize(keyword));
+        return bucket == null ? Collections.emptySet() : bucket.asSet();
+    }
+
+    /**
+     * Returns an unmodifiable view of the distinct keys currently present for {@code field}.
+     */
+    public Set<String> keys(Field field) {
+        return Collections.unmodifiableSet(indexes.get(field).keySet());
+    }
+
+    /**
+     * Returns {@code value} case-folded the same way {@link String#equalsIgnoreCase(String)} compares characters,
+     * so that two strings fold to the same key exactly when they are equal ignoring case.
+     */
+    static String normalize(String value) {
+        requireNonNull(value);
+        StringBuilder folded = new StringBuilder(value.length());
+        value.codePoints()
+                .map(codePoint -> Character.toLowerCase(Character.toUpperCase(codePoint)))
+                .forEach(folded::appendCodePoint);
+        return folded.toString();
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::unindex);
+            change.getAddedSubList().forEach(this::index);
+        }
+    }
+
+    private void index(Person person) {
+        for (Field field : Field.values()) {
+            Map<String, Bucket> index = indexes.get(field);
+            keysOf(field, person).forEach(key -> index.computeIfAbsent(key, unused -> new Bucket()).add(person));
+        }
+    }
+
+    private void unindex(Person person) {
+        for (Field field : Field.values()) {
+            Map<String, Bucket> index = indexes.get(field);
+            keysOf(field, person).forEach(key -> {
+                Bucket bucket = index.get(key);
+                if (bucket != null && bucket.remove(person)) {
+                    index.remove(key);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the distinct normalized keys under which {@code person} is indexed for {@code field}.
+     */
+    static Stream<String> keysOf(Field field, Person person) {
+        switch (field) {
+        case NAME:
+            return words(person.getName().fullName);
+        case TAG:
+            return person.getTags().stream().flatMap(tag -> words(tag.tagName)).distinct();
+        case STATUS:
+            return Stream.of(normalize(person.getStatus().name()));
+        case PHONE:
+            return Stream.of(normalize(person.getPhone().value));
+        case EMAIL:
+            return Stream.of(normalize(person.getEmail().value));
+        default:
+            throw new AssertionError("Unknown field: " + field);
+        }
+    }
+
+    /**
+     * Returns the normalized words of {@code value}, split the same way {@code StringUtil#containsWordIgnoreCase}
+     * splits its sentence.
+     */
+    private static Stream<String> words(String value) {
+        return Stream.of(value.split("\\s+")).map(PersonIndex::normalize).distinct();
+    }
+
+    /**
+     * Persons sharing one key. Most phone, email and name keys belong to a single person, so a lone
+     * person is held directly and an identity set is only allocated once a second person arrives.
+     */
+    private static class Bucket {
+        private Person single;
+        private Set<Person> many;
+
+        void add(Person person) {
+            if (many != null) {
+                many.add(person);
+            } else if (single == null) {
+                single = person;
+            } else {
+                many = Collections.newSetFromMap(new IdentityHashMap<>());
+                many.add(single);
+                many.add(person);
+                single = null;
+            }
+        }
+
+        /**
+         * Removes {@code person} and returns true if the bucket is now empty.
+         */
+        boolean remove(Person person) {
+            if (many != null) {
+                many.remove(person);
+                return many.isEmpty();
+            }
+            if (single == person) {
+                single = null;
+            }
+            return single == null;
+        }
+
+        int size() {
+            return many != null ? many.size() : (single == null ? 0 : 1);
+        }
+
+        Set<Person> asSet() {
+            if (many != null) {
+                return Collections.unmodifiableSet(many);
+            }
+            return single == null ? Collections.emptySet() : Collections.singleton(single);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A predicate backed by a precomputed set of matching persons.
+ * The set is only trusted while the address book is at the version it was computed for; once the book changes,
+ * persons are tested against the original predicate instead so that edits are still filtered correctly.
+ */
+public class PlannedPredicate implements Predicate<Person> {
+    private final Predicate<Person> source;
+    private final Set<Person> matches;
+    private final LongSupplier versionSupplier;
+    private final long version;
+
+    /**
+     * Creates a predicate accepting exactly {@code matches}, which must be the persons accepted by {@code source}
+     * at the version currently reported by {@code versionSupplier}.
+     */
+    public PlannedPredicate(Predicate<Person> source, Set<Person> matches, LongSupplier versionSupplier) {
+        requireAllNonNull(source, matches, versionSupplier);
+        this.source = source;
+        this.matches = matches;
+        this.versionSupplier = versionSupplier;
+        this.version = versionSupplier.getAsLong();
+    }
+
+    public Predicate<Person> getSource() {
+        return source;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        if (versionSupplier.getAsLong() == version) {
+            return matches.contains(person);
+        }
+        return source.test(person);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("source", source)
+                .add("matches", matches.size())
+                .toString();
+    }
+}
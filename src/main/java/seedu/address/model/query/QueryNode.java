@@ -0,0 +1,20 @@
+package seedu.address.model.query;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A node in a parsed find query.
+ * Besides testing a single person, a node can evaluate itself over a whole book as a bitmap of
+ * {@link BitmapIndex} slots.
+ */
+public interface QueryNode extends Predicate<Person> {
+
+    /**
+     * Returns the slots in {@code index} of the persons matching this node.
+     * The returned bitmap may be shared with {@code index} and must not be modified.
+     */
+    BitSet evaluate(BitmapIndex index);
+}
@@ -0,0 +1,233 @@
+package seedu.address.model.query;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An execution plan for a find query, produced by {@link QueryPlanner}.
+ * A plan either scans every person with the original predicate, possibly in parallel for very large books,
+ * drives the search from the most selective index clause and intersects the remaining clauses against its
+ * candidates, or evaluates a boolean query as operations over per-field bitmaps. Queries repeated while the
+ * address book is unchanged reuse the cached result instead.
+ */
+public class QueryPlan {
+
+    /**
+     * How the plan evaluates its query.
+     */
+    public enum Strategy {
+        SCAN,
+        PARALLEL_SCAN,
+        INDEX,
+        BITMAP,
+        CACHED
+    }
+
+    private final QueryPlanner planner;
+    private final Predicate<Person> predicate;
+    private final Strategy strategy;
+    private final List<Clause> clauses;
+    private final Object cacheKey;
+    private final Set<Person> cachedMatches;
+    private final long planNanos;
+
+    private int examined;
+    private int matched = -1;
+    private long executeNanos;
+
+    /**
+     * Creates a plan for {@code predicate} made by {@code planner}. {@code clauses} must be ordered from most to
+     * least selective. {@code cacheKey} is null if the result cannot be cached, and {@code cachedMatches} is only
+     * set for a {@code CACHED} plan.
+     */
+    QueryPlan(QueryPlanner planner, Predicate<Person> predicate, Strategy strategy, List<Clause> clauses,
+            Object cacheKey, Set<Person> cachedMatches, long planNanos) {
+        this.planner = planner;
+        this.predicate = predicate;
+        this.strategy = strategy;
+        this.clauses = clauses;
+        this.cacheKey = cacheKey;
+        this.cachedMatches = cachedMatches;
+        this.planNanos = planNanos;
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    public List<Clause> getClauses() {
+        return Collections.unmodifiableList(clauses);
+    }
+
+    /**
+     * Evaluates the plan, timing it, and returns the filter showing its matches along with their positions in the
+     * person list, so that the result can be shown without testing every person again.
+     * Resolved match sets are remembered in the planner's result cache when the query can be cached.
+     */
+    public FindResult execute() {
+        long start = System.nanoTime();
+        long version = planner.getVersionSupplier().getAsLong();
+        Predicate<Person> filter;
+        int[] positions;
+        if (strategy == Strategy.PARALLEL_SCAN) {
+            Person[] persons = planner.getIndex().getPersons().toArray(new Person[0]);
+            examined = persons.length;
+            positions = ParallelScan.evaluate(persons, predicate);
+            Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (int position : positions) {
+                matches.add(persons[position]);
+            }
+            filter = plan(matches);
+        } else {
+            Set<Person> matches = resolve();
+            filter = matches == null ? predicate : plan(matches);
+            positions = locate(filter);
+        }
+        executeNanos = System.nanoTime() - start;
+        return new FindResult(predicate, new ListFilter(filter, positions, version), this);
+    }
+
+    /**
+     * Returns a filter accepting exactly {@code matches}, caching them when the query can be cached.
+     */
+    private Predicate<Person> plan(Set<Person> matches) {
+        matched = matches.size();
+        if (cacheKey != null && strategy != Strategy.CACHED) {
+            planner.getResultCache().put(cacheKey, matches);
+        }
+        return new PlannedPredicate(predicate, matches, planner.getVersionSupplier());
+    }
+
+    /**
+     * Returns the positions in the person list of the persons accepted by {@code filter}, in ascending order.
+     */
+    private int[] locate(Predicate<Person> filter) {
+        List<Person> persons = planner.getIndex().getPersons();
+        int[] positions = new int[persons.size()];
+        int count = 0;
+        int position = 0;
+        for (Person person : persons) {
+            if (filter.test(person)) {
+                positions[count++] = position;
+            }
+            position++;
+        }
+        return Arrays.copyOf(positions, count);
+    }
+
+    /**
+     * Returns the persons matching the query, or null if the query's own predicate is to be used as the filter.
+     */
+    private Set<Person> resolve() {
+        PersonIndex index = planner.getIndex();
+        switch (strategy) {
+        case CACHED:
+            return cachedMatches;
+        case INDEX:
+            return resolveMatches();
+        case BITMAP:
+            examined = index.size();
+            return planner.getBitmapIndex().evaluate((QueryNode) predicate);
+        default:
+            examined = index.size();
+            return cacheKey == null ? null : scan();
+        }
+    }
+
+    /**
+     * Tests every person in turn, so that the result of a cacheable scan can be kept.
+     */
+    private Set<Person> scan() {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person person : planner.getIndex().getPersons()) {
+            if (predicate.test(person)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Unions the driving clause's buckets, then keeps only the candidates accepted by every other clause.
+     */
+    private Set<Person> resolveMatches() {
+        PersonIndex index = planner.getIndex();
+        Clause driver = clauses.get(0);
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : driver.keywords) {
+            matches.addAll(index.lookup(driver.field, keyword));
+        }
+        examined = matches.size();
+        for (Clause clause : clauses.subList(1, clauses.size())) {
+            matches.removeIf(person -> !clause.accepts(index, person));
+        }
+        matched = matches.size();
+        return matches;
+    }
+
+    /**
+     * Returns a human-readable description of the plan, including timings once it has been executed.
+     */
+    public String describe() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("Query plan: %s over %d person(s), planned in %.3f ms, executed in %.3f ms",
+                strategy, planner.getIndex().size(), planNanos / 1e6, executeNanos / 1e6));
+        for (int i = 0; i < clauses.size(); i++) {
+            Clause clause = clauses.get(i);
+            String role = strategy != Strategy.INDEX ? "filter" : (i == 0 ? "driver" : "intersect");
+            builder.append(String.format("\n  %d. %s %s ~%d match(es) [%s]",
+                    i + 1, clause.field, clause.keywords, clause.estimate, role));
+        }
+        if (strategy == Strategy.BITMAP) {
+            builder.append("\n  Query: ").append(predicate);
+        }
+        if (strategy == Strategy.CACHED) {
+            builder.append("\n  Reused the result of an identical query on the unchanged address book");
+        }
+        builder.append(String.format("\n  Examined %d person(s)", examined));
+        if (matched >= 0) {
+            builder.append(String.format(", matched %d", matched));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * One conjunct of a query: the person's {@code field} must match any of {@code keywords}.
+     */
+    public static class Clause {
+        private final PersonIndex.Field field;
+        private final List<String> keywords;
+        private final int estimate;
+
+        Clause(PersonIndex.Field field, List<String> keywords, int estimate) {
+            this.field = field;
+            this.keywords = keywords;
+            this.estimate = estimate;
+        }
+
+        public PersonIndex.Field getField() {
+            return field;
+        }
+
+        public List<String> getKeywords() {
+            return keywords;
+        }
+
+        /**
+         * Returns an upper bound on the number of persons matching this clause.
+         */
+        public int getEstimate() {
+            return estimate;
+        }
+
+        private boolean accepts(PersonIndex index, Person person) {
+            return keywords.stream().anyMatch(keyword -> index.lookup(field, keyword).contains(person));
+        }
+    }
+}
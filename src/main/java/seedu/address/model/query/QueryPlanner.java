@@ -0,0 +1,157 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesKeywordsPredicate;
+
+/**
+ * Chooses how to evaluate a find query using the selectivity of each of its clauses.
+ * Clause sizes are read straight off {@link PersonIndex}, so estimates are exact upper bounds rather than guesses.
+ */
+public class QueryPlanner {
+
+    /**
+     * How many times cheaper than a full scan the driving clause has to be before the index is used.
+     * Resolving through the index still costs a hash lookup per person when the filter is applied,
+     * so barely-selective clauses are better served by a plain scan.
+     */
+    static final int INDEX_COST_FACTOR = 3;
+
+    private final PersonIndex index;
+    private final BitmapIndex bitmapIndex;
+    private final ResultCache resultCache;
+    private final LongSupplier versionSupplier;
+    private final IntSupplier parallelThreshold;
+
+    /**
+     * Creates a planner over {@code index}, whose underlying data reports its modification version through
+     * {@code versionSupplier}. Scans of books with at least {@code parallelThreshold} persons are run in parallel.
+     */
+    public QueryPlanner(PersonIndex index, LongSupplier versionSupplier, IntSupplier parallelThreshold) {
+        requireAllNonNull(index, versionSupplier, parallelThreshold);
+        this.index = index;
+        this.bitmapIndex = new BitmapIndex(index);
+        this.resultCache = new ResultCache(ResultCache.DEFAULT_CAPACITY, versionSupplier);
+        this.versionSupplier = versionSupplier;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Returns a plan for evaluating {@code predicate}.
+     * A query already answered at the current address book version is served from the result cache.
+     * Otherwise, boolean queries are always answered from bitmaps.
+     * Predicates the planner does not understand are always scanned, so they must be safe to evaluate from
+     * several threads once the book reaches the parallel threshold.
+     */
+    public QueryPlan plan(Predicate<Person> predicate) {
+        long start = System.nanoTime();
+        Object cacheKey = ResultCache.keyOf(predicate).orElse(null);
+        Optional<Set<Person>> cached = cacheKey == null ? Optional.empty() : resultCache.get(cacheKey);
+        if (cached.isPresent()) {
+            return new QueryPlan(this, predicate, QueryPlan.Strategy.CACHED, new ArrayList<>(), cacheKey,
+                    cached.get(), System.nanoTime() - start);
+        }
+        if (predicate instanceof QueryNode) {
+            return new QueryPlan(this, predicate, QueryPlan.Strategy.BITMAP, new ArrayList<>(), cacheKey, null,
+                    System.nanoTime() - start);
+        }
+        Optional<List<QueryPlan.Clause>> indexable = toClauses(predicate);
+        List<QueryPlan.Clause> clauses = indexable.orElseGet(ArrayList::new);
+        clauses.sort(Comparator.comparingInt(QueryPlan.Clause::getEstimate));
+
+        QueryPlan.Strategy strategy = index.size() >= parallelThreshold.getAsInt()
+                ? QueryPlan.Strategy.PARALLEL_SCAN
+                : QueryPlan.Strategy.SCAN;
+        if (indexable.isPresent() && !clauses.isEmpty()
+                && (long) clauses.get(0).getEstimate() * INDEX_COST_FACTOR < index.size()) {
+            strategy = QueryPlan.Strategy.INDEX;
+        }
+        return new QueryPlan(this, predicate, strategy, clauses, cacheKey, null, System.nanoTime() - start);
+    }
+
+    PersonIndex getIndex() {
+        return index;
+    }
+
+    BitmapIndex getBitmapIndex() {
+        return bitmapIndex;
+    }
+
+    ResultCache getResultCache() {
+        return resultCache;
+    }
+
+    LongSupplier getVersionSupplier() {
+        return versionSupplier;
+    }
+
+    /**
+     * Breaks {@code predicate} into indexable clauses, or returns an empty optional if any part of it cannot be
+     * answered exactly from the index.
+     */
+    private Optional<List<QueryPlan.Clause>> toClauses(Predicate<Person> predicate) {
+        List<QueryPlan.Clause> clauses = new ArrayList<>();
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            List<String> keywords = ((NameContainsKeywordsPredicate) predicate).getKeywords();
+            if (!addWordClause(clauses, PersonIndex.Field.NAME, keywords) || keywords.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(clauses);
+        }
+        if (!(predicate instanceof PersonMatchesKeywordsPredicate)) {
+            return Optional.empty();
+        }
+
+        PersonMatchesKeywordsPredicate keywords = (PersonMatchesKeywordsPredicate) predicate;
+        if (!addWordClause(clauses, PersonIndex.Field.NAME, keywords.getNameKeywords())
+                || !addWordClause(clauses, PersonIndex.Field.TAG, keywords.getTagKeywords())) {
+            return Optional.empty();
+        }
+        addExactClause(clauses, PersonIndex.Field.STATUS, keywords.getStatusKeyword());
+        addExactClause(clauses, PersonIndex.Field.PHONE, keywords.getPhoneKeyword());
+        addExactClause(clauses, PersonIndex.Field.EMAIL, keywords.getEmailKeyword());
+        return Optional.of(clauses);
+    }
+
+    /**
+     * Adds a clause matching any of the whole-word {@code keywords}, returning false if a keyword is not a single
+     * word and so would be rejected by the predicate itself.
+     */
+    private boolean addWordClause(List<QueryPlan.Clause> clauses, PersonIndex.Field field, List<String> keywords) {
+        if (keywords.isEmpty()) {
+            return true;
+        }
+        List<String> words = new ArrayList<>();
+        for (String keyword : keywords) {
+            String word = keyword.trim();
+            if (word.isEmpty() || word.split("\\s+").length != 1) {
+                return false;
+            }
+            words.add(word);
+        }
+        clauses.add(new QueryPlan.Clause(field, words, estimate(field, words)));
+        return true;
+    }
+
+    private void addExactClause(List<QueryPlan.Clause> clauses, PersonIndex.Field field, String keyword) {
+        if (keyword == null || keyword.isEmpty()) {
+            return;
+        }
+        clauses.add(new QueryPlan.Clause(field, List.of(keyword), index.count(field, keyword)));
+    }
+
+    private int estimate(PersonIndex.Field field, List<String> keywords) {
+        return keywords.stream().mapToInt(keyword -> index.count(field, keyword)).sum();
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesKeywordsPredicate;
+
+/**
+ * A least-recently-used cache of find results, keyed by normalized predicate.
+ * Entries are only valid for the address book version they were computed at; the first access after the book
+ * changes drops every entry, so a mutation itself costs nothing beyond bumping the version.
+ * The cache is safe to use from several threads.
+ */
+public class ResultCache {
+
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private final LongSupplier versionSupplier;
+    private final Map<Object, Set<Person>> entries;
+    private long version;
+
+    /**
+     * Creates a cache holding at most {@code capacity} results for the data whose version is reported by
+     * {@code versionSupplier}.
+     */
+    public ResultCache(int capacity, LongSupplier versionSupplier) {
+        requireNonNull(versionSupplier);
+        checkArgument(capacity > 0, "Cache capacity must be positive");
+        this.versionSupplier = versionSupplier;
+        this.version = versionSupplier.getAsLong();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Set<Person>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached matches for {@code key} at the current version, if any.
+     */
+    public synchronized Optional<Set<Person>> get(Object key) {
+        requireNonNull(key);
+        invalidateIfStale();
+        return Optional.ofNullable(entries.get(key));
+    }
+
+    /**
+     * Caches {@code matches} as the result for {@code key} at the current version.
+     * {@code matches} must not be modified afterwards.
+     */
+    public synchronized void put(Object key, Set<Person> matches) {
+        requireNonNull(key);
+        requireNonNull(matches);
+        invalidateIfStale();
+        entries.put(key, matches);
+    }
+
+    /**
+     * Returns the number of results currently cached.
+     */
+    public synchronized int size() {
+        invalidateIfStale();
+        return entries.size();
+    }
+
+    private void invalidateIfStale() {
+        long currentVersion = versionSupplier.getAsLong();
+        if (currentVersion != version) {
+            entries.clear();
+            version = currentVersion;
+        }
+    }
+
+    /**
+     * Returns a cache key for {@code predicate} under which all predicates matching the same persons for the same
+     * reasons share an entry, or an empty optional if {@code predicate} cannot be cached.
+     * Keywords are case-folded and their order and repetition are ignored, as matching ignores both.
+     */
+    public static Optional<Object> keyOf(Predicate<Person> predicate) {
+        if (predicate instanceof QueryNode) {
+            return Optional.of(predicate);
+        }
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            List<String> keywords = ((NameContainsKeywordsPredicate) predicate).getKeywords();
+            return Optional.of(new NameContainsKeywordsPredicate(normalizeWords(keywords)));
+        }
+        if (predicate instanceof PersonMatchesKeywordsPredicate) {
+            PersonMatchesKeywordsPredicate keywords = (PersonMatchesKeywordsPredicate) predicate;
+            return Optional.of(new PersonMatchesKeywordsPredicate(normalizeWords(keywords.getNameKeywords()),
+                    normalizeWords(keywords.getTagKeywords()), normalizeValue(keywords.getStatusKeyword()),
+                    normalizeValue(keywords.getPhoneKeyword()), normalizeValue(keywords.getEmailKeyword())));
+        }
+        return Optional.empty();
+    }
+
+    private static List<String> normalizeWords(List<String> words) {
+        return words.stream().map(word -> PersonIndex.normalize(word.trim())).distinct().sorted().toList();
+    }
+
+    private static String normalizeValue(String value) {
+        return value == null || value.isEmpty() ? null : PersonIndex.normalize(value);
+    }
+}
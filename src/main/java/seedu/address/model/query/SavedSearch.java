@@ -0,0 +1,169 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.event.BookReset;
+import seedu.address.model.event.ChangeFeed;
+import seedu.address.model.event.ModelEvent;
+import seedu.address.model.event.PersonAdded;
+import seedu.address.model.event.PersonRemoved;
+import seedu.address.model.event.PersonUpdated;
+import seedu.address.model.person.Person;
+
+/**
+ * A named find query whose matching persons are kept as a materialized view.
+ * Membership is updated from the model's {@link ChangeFeed}, so each mutation only tests the persons it touched and
+ * switching to the search never re-evaluates its predicate. A search that falls too far behind the feed rebuilds its
+ * membership from a snapshot of the address book instead.
+ */
+public class SavedSearch {
+
+    public static final String MESSAGE_CONSTRAINTS = "Saved search names should be alphanumeric";
+    public static final String VALIDATION_REGEX = "\\p{Alnum}+";
+
+    private final String name;
+    private final String query;
+    private final Predicate<Person> predicate;
+    private final ChangeFeed feed;
+    private final ChangeFeed.Subscription subscription;
+    private final Supplier<AddressBookSnapshot> snapshots;
+    private final Set<Person> members = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final ReadOnlyIntegerWrapper count = new ReadOnlyIntegerWrapper();
+
+    /**
+     * Creates a saved search called {@code name} for the find arguments {@code query}, which parse to
+     * {@code predicate}, with the persons of the current {@code snapshots} that match it as members.
+     * Later changes are read from {@code feed}, which must be in step with {@code snapshots}, by {@link #catchUp()}.
+     */
+    public SavedSearch(String name, String query, Predicate<Person> predicate, ChangeFeed feed,
+            Supplier<AddressBookSnapshot> snapshots) {
+        requireAllNonNull(name, query, predicate, feed, snapshots);
+        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        this.name = name;
+        this.query = query;
+        this.predicate = predicate;
+        this.feed = feed;
+        this.snapshots = snapshots;
+        subscription = feed.subscribe(feed.getVersion());
+        rebuild(snapshots.get());
+    }
+
+    /**
+     * Returns true if {@code test} is a valid saved search name.
+     */
+    public static boolean isValidName(String test) {
+        return test.matches(VALIDATION_REGEX);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public Predicate<Person> getPredicate() {
+        return predicate;
+    }
+
+    public int getCount() {
+        return count.get();
+    }
+
+    public ReadOnlyIntegerProperty countProperty() {
+        return count.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns a filter accepting exactly the members of this search.
+     * Until the search has caught up with the latest change in the feed, persons are tested against the predicate
+     * directly, since the membership may not include them yet.
+     */
+    public Predicate<Person> asFilter() {
+        return person -> subscription.getVersion() == feed.getVersion()
+                ? members.contains(person)
+                : predicate.test(person);
+    }
+
+    /**
+     * Applies the changes published to the feed since the last call, testing only the persons they touched.
+     * Must be called on the thread that changes the address book.
+     */
+    public void catchUp() {
+        Optional<List<ModelEvent>> events = subscription.poll();
+        if (events.isEmpty()) {
+            // fell too far behind to replay the changes
+            long version = feed.getVersion();
+            rebuild(snapshots.get());
+            subscription.resetTo(version);
+            return;
+        }
+        for (ModelEvent event : events.get()) {
+            apply(event);
+        }
+        count.set(members.size());
+    }
+
+    private void apply(ModelEvent event) {
+        if (event instanceof PersonAdded) {
+            addIfMatching(((PersonAdded) event).getPerson());
+        } else if (event instanceof PersonRemoved) {
+            members.remove(((PersonRemoved) event).getPerson());
+        } else if (event instanceof PersonUpdated) {
+            PersonUpdated updated = (PersonUpdated) event;
+            members.remove(updated.getOldPerson());
+            addIfMatching(updated.getNewPerson());
+        } else if (event instanceof BookReset) {
+            rebuild(((BookReset) event).getContents());
+        }
+    }
+
+    private void addIfMatching(Person person) {
+        if (predicate.test(person)) {
+            members.add(person);
+        }
+    }
+
+    private void rebuild(AddressBookSnapshot snapshot) {
+        members.clear();
+        snapshot.getPersonList().forEach(this::addIfMatching);
+        count.set(members.size());
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .add("query", query)
+                .add("count", getCount())
+                .toString();
+    }
+
+    /**
+     * Turns the find arguments of a saved search back into its predicate, e.g. when restoring saved searches from
+     * the user prefs.
+     */
+    @FunctionalInterface
+    public interface QueryParser {
+        /**
+         * Returns the predicate that {@code query} describes.
+         *
+         * @throws IllegalArgumentException if {@code query} is not a valid search.
+         */
+        Predicate<Person> parse(String query);
+    }
+}
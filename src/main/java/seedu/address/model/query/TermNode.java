@@ -0,0 +1,106 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Matches persons whose {@code field} has a key matching a pattern, ignoring case.
+ * The pattern may contain {@code *} wildcards, each matching any run of characters.
+ * Name and tag keys are single words, while status, phone and email keys are whole values.
+ */
+public class TermNode implements QueryNode {
+    public static final String WILDCARD = "*";
+
+    private final PersonIndex.Field field;
+    private final String pattern;
+    private final String[] parts;
+
+    /**
+     * Creates a term matching {@code field} against {@code pattern}.
+     */
+    public TermNode(PersonIndex.Field field, String pattern) {
+        requireAllNonNull(field, pattern);
+        this.field = field;
+        this.pattern = PersonIndex.normalize(pattern);
+        this.parts = this.pattern.split("\\*", -1);
+    }
+
+    public PersonIndex.Field getField() {
+        return field;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Returns true if {@code pattern} contains a wildcard.
+     */
+    public boolean isWildcard() {
+        return parts.length > 1;
+    }
+
+    /**
+     * Returns true if the normalized {@code key} matches this term's pattern.
+     */
+    public boolean matches(String key) {
+        if (parts.length == 1) {
+            return key.equals(parts[0]);
+        }
+        if (!key.startsWith(parts[0])) {
+            return false;
+        }
+        int position = parts[0].length();
+        for (int i = 1; i < parts.length - 1; i++) {
+            int found = key.indexOf(parts[i], position);
+            if (found < 0) {
+                return false;
+            }
+            position = found + parts[i].length();
+        }
+        String last = parts[parts.length - 1];
+        return key.length() - last.length() >= position && key.endsWith(last);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return PersonIndex.keysOf(field, person).anyMatch(this::matches);
+    }
+
+    @Override
+    public BitSet evaluate(BitmapIndex index) {
+        return index.term(this);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TermNode)) {
+            return false;
+        }
+
+        TermNode otherTerm = (TermNode) other;
+        return field == otherTerm.field && pattern.equals(otherTerm.pattern);
+    }
+
+    @Override
+    public int hashCode() {
+        return field.hashCode() * 31 + pattern.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("field", field)
+                .add("pattern", pattern)
+                .toString();
+    }
+}
@@ -3,15 +3,22 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ *
+ * Few distinct tags are shared by many persons, so tags held by the model are canonicalized through
+ * {@link #of(String)} or {@link #intern(Tag)} and equal tags share a single instance.
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Interner<Tag> POOL = new Interner<>();
+
     public final String tagName;
 
     /**
@@ -25,6 +32,22 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the canonical {@code Tag} named {@code tagName}.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return POOL.intern(new Tag(tagName));
+    }
+
+    /**
+     * Returns the canonical {@code Tag} equal to {@code tag}.
+     */
+    public static Tag intern(Tag tag) {
+        return POOL.intern(tag);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
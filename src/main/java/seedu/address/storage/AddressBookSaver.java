@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Writes address book snapshots to storage on a background thread, so that the caller never waits on the disk.
+ * A snapshot handed over while an earlier one is still waiting replaces it, so a burst of changes is written at most
+ * once after the write in progress. Snapshots must not change after being handed over.
+ */
+public class AddressBookSaver {
+    private final AddressBookStorage storage;
+    private final Consumer<IOException> failureHandler;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "save");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ReadOnlyAddressBook pending;
+    private CompletableFuture<Void> pendingWrite;
+
+    /**
+     * Creates a saver writing to {@code storage} that tells {@code failureHandler}, on the writer thread, about
+     * every write that fails.
+     */
+    public AddressBookSaver(AddressBookStorage storage, Consumer<IOException> failureHandler) {
+        requireAllNonNull(storage, failureHandler);
+        this.storage = storage;
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code snapshot} to be written, replacing any snapshot still waiting.
+     *
+     * @return a future completed once a snapshot at least as new as {@code snapshot} is written, or completed
+     *     exceptionally with the {@code IOException} if that write fails.
+     */
+    public synchronized CompletableFuture<Void> save(ReadOnlyAddressBook snapshot) {
+        if (pending == null) {
+            pendingWrite = new CompletableFuture<>();
+            writer.execute(this::writePending);
+        }
+        pending = snapshot;
+        return pendingWrite;
+    }
+
+    /**
+     * Blocks until every snapshot handed over so far has been written or has failed to be.
+     */
+    public void flush() {
+        try {
+            writer.submit(() -> null).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void writePending() {
+        ReadOnlyAddressBook snapshot;
+        CompletableFuture<Void> write;
+        synchronized (this) {
+            snapshot = pending;
+            write = pendingWrite;
+            pending = null;
+            pendingWrite = null;
+        }
+        try {
+            storage.saveAddressBook(snapshot);
+            write.complete(null);
+        } catch (IOException e) {
+            failureHandler.accept(e);
+            write.completeExceptionally(e);
+        }
+    }
+}
@@ -1,14 +1,24 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.ProgressListener;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Person;
 
 /**
  * Utility class for JsonAddressBook.
@@ -16,6 +26,10 @@ import seedu.address.model.ReadOnlyAddressBook;
 public class JsonAddressBookUtil {
 
     private static final String MESSAGE_NULL_EMPTY_JSON_STRING = "JSON string cannot be null or empty";
+    private static final String MESSAGE_NOT_AN_OBJECT = "JSON string is not an object";
+    private static final String MESSAGE_PERSON_NOT_AN_OBJECT = "Each person must be a JSON object";
+    private static final String MESSAGE_UNEXPECTED_END = "JSON string ended unexpectedly";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookUtil.class);
 
     /**
@@ -28,14 +42,37 @@ public class JsonAddressBookUtil {
      *                              or contains illegal field values
      */
     public static ReadOnlyAddressBook readAddressBookFromJsonString(String jsonString) throws DataLoadingException {
+        return readAddressBookFromJsonString(jsonString, ProgressListener.NONE);
+    }
+
+    /**
+     * Parses a JSON string into a ReadOnlyAddressBook, reading and validating one person at a time and telling
+     * {@code progress} after each person how many of the string's characters have been read. A listener that throws
+     * stops the parse, so a large string can be abandoned part way through.
+     *
+     * @see #readAddressBookFromJsonString(String)
+     */
+    public static ReadOnlyAddressBook readAddressBookFromJsonString(String jsonString, ProgressListener progress)
+            throws DataLoadingException {
         if (StringUtil.isNullOrEmpty(jsonString)) {
             throw new DataLoadingException(new Exception(MESSAGE_NULL_EMPTY_JSON_STRING));
         }
 
-        try {
-            JsonSerializableAddressBook jsonAddressBook = JsonUtil.fromJsonString(jsonString,
-                    JsonSerializableAddressBook.class);
-            return jsonAddressBook.toModelType();
+        try (JsonParser parser = JsonUtil.createParser(jsonString)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new DataLoadingException(new Exception(MESSAGE_NOT_AN_OBJECT));
+            }
+            List<Person> persons = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && fieldName.equals("persons")) {
+                    persons = readPersons(parser, jsonString.length(), progress);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            progress.onProgress(jsonString.length(), jsonString.length());
+            return JsonSerializableAddressBook.toAddressBook(persons);
         } catch (IOException e) {
             logger.info("Failed to parse JSON string: " + e.getMessage());
             throw new DataLoadingException(e);
@@ -44,4 +81,75 @@ public class JsonAddressBookUtil {
             throw new DataLoadingException(e);
         }
     }
+
+    /**
+     * Reads the persons of the array the parser has just entered, up to its end.
+     */
+    private static List<Person> readPersons(JsonParser parser, int length, ProgressListener progress)
+            throws IOException, IllegalValueException, DataLoadingException {
+        List<Person> persons = new ArrayList<>();
+        UnaryOperator<Address> sharedAddress = JsonSerializableAddressBook.addressSharer();
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (token == null) {
+                throw new DataLoadingException(new Exception(MESSAGE_UNEXPECTED_END));
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new DataLoadingException(new Exception(MESSAGE_PERSON_NOT_AN_OBJECT));
+            }
+            persons.add(parser.readValueAs(JsonAdaptedPerson.class).toModelType(sharedAddress));
+            progress.onProgress(parser.getCurrentLocation().getCharOffset(), length);
+        }
+        return persons;
+    }
+
+    /**
+     * Converts {@code addressBook} into a JSON string in the same format as the address book file.
+     *
+     * @throws IOException if the address book could not be converted
+     */
+    public static String writeAddressBookToJsonString(ReadOnlyAddressBook addressBook) throws IOException {
+        return JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+    }
+
+    /**
+     * Returns the number of persons in the address book held by a JSON string, without reading the persons
+     * themselves. Much cheaper than {@link #readAddressBookFromJsonString(String)}, but only checks that the string
+     * is well-formed JSON up to the end of the persons.
+     *
+     * @throws DataLoadingException if the JSON string is null, empty or not a well-formed JSON object
+     */
+    public static int countPersons(String jsonString) throws DataLoadingException {
+        if (StringUtil.isNullOrEmpty(jsonString)) {
+            throw new DataLoadingException(new Exception(MESSAGE_NULL_EMPTY_JSON_STRING));
+        }
+
+        try (JsonParser parser = JSON_FACTORY.createParser(jsonString)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new DataLoadingException(new Exception(MESSAGE_NOT_AN_OBJECT));
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && fieldName.equals("persons")) {
+                    return countArrayElements(parser);
+                }
+                parser.skipChildren();
+            }
+            return 0;
+        } catch (IOException e) {
+            logger.info("Failed to parse JSON string: " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static int countArrayElements(JsonParser parser) throws IOException, DataLoadingException {
+        int count = 0;
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (token == null) {
+                throw new DataLoadingException(new Exception(MESSAGE_UNEXPECTED_END));
+            }
+            parser.skipChildren();
+            count++;
+        }
+        return count;
+    }
 }
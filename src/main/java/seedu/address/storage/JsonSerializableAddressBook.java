@@ -1,7 +1,10 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -9,9 +12,12 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ProgressListener;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -46,13 +52,48 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        return toModelType(ProgressListener.NONE);
+    }
+
+    /**
+     * Converts this address book into the model's {@code AddressBook} object, telling {@code progress} after each
+     * person is converted.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public AddressBook toModelType(ProgressListener progress) throws IllegalValueException {
+        List<Person> modelPersons = new ArrayList<>(persons.size());
+        UnaryOperator<Address> sharedAddress = addressSharer();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            modelPersons.add(jsonAdaptedPerson.toModelType(sharedAddress));
+            progress.onProgress(modelPersons.size(), persons.size());
+        }
+        return toAddressBook(modelPersons);
+    }
+
+    /**
+     * Returns a function that gives back the first equal address it was given, so that persons read from one file
+     * share each repeated address (e.g. an office) instead of holding a copy each.
+     * The addresses are only pooled while the file is read; afterwards the pool is garbage like the rest of the JSON,
+     * so unique addresses cost nothing extra once loaded.
+     */
+    static UnaryOperator<Address> addressSharer() {
+        Map<Address, Address> pool = new HashMap<>();
+        return address -> pool.computeIfAbsent(address, unused -> address);
+    }
+
+    /**
+     * Returns an address book holding {@code modelPersons}, read from JSON.
+     *
+     * @throws IllegalValueException if some of the persons are duplicates.
+     */
+    static AddressBook toAddressBook(List<Person> modelPersons) throws IllegalValueException {
+        // Checks all persons for duplicates at once instead of checking each new person against the previous ones
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return addressBook;
     }
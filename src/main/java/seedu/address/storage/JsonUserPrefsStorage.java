@@ -44,4 +44,9 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
         JsonUtil.saveJsonFile(userPrefs, filePath);
     }
 
+    @Override
+    public boolean saveUserPrefsIfChanged(ReadOnlyUserPrefs userPrefs) throws IOException {
+        return JsonUtil.saveJsonFileIfChanged(userPrefs, filePath);
+    }
+
 }
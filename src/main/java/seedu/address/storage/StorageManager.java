@@ -49,6 +49,11 @@ public class StorageManager implements Storage {
         userPrefsStorage.saveUserPrefs(userPrefs);
     }
 
+    @Override
+    public boolean saveUserPrefsIfChanged(ReadOnlyUserPrefs userPrefs) throws IOException {
+        return userPrefsStorage.saveUserPrefsIfChanged(userPrefs);
+    }
+
 
     // ================ AddressBook methods ==============================
 
@@ -91,6 +96,11 @@ public class StorageManager implements Storage {
         return templateStorage.readTemplate(status);
     }
 
+    @Override
+    public void preloadTemplates() throws IOException {
+        templateStorage.preloadTemplates();
+    }
+
     @Override
     public void saveTemplate(Status status, String content) throws IOException {
         logger.fine("Saving template for status: " + status);
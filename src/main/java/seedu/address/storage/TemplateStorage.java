@@ -25,6 +25,18 @@ public interface TemplateStorage {
      */
     String readTemplate(Status status) throws IOException;
 
+    /**
+     * Reads the template of every status ahead of use, so that later reads can be served from memory where the
+     * storage keeps them in memory.
+     *
+     * @throws IOException if there was any problem reading the files.
+     */
+    default void preloadTemplates() throws IOException {
+        for (Status status : Status.values()) {
+            readTemplate(status);
+        }
+    }
+
     /**
      * Saves the given template content for the specified status.
      *
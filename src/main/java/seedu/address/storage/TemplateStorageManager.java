@@ -3,6 +3,8 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -11,12 +13,15 @@ import seedu.address.model.person.Status;
 
 /**
  * Manages storage of email templates in text files.
+ * Templates are kept in memory once read or saved, so each file is read at most once while the app runs, and edits
+ * made to the files from outside the app only show after a restart.
  */
 public class TemplateStorageManager implements TemplateStorage {
     private static final Logger logger = LogsCenter.getLogger(TemplateStorageManager.class);
     private static final String TEMPLATE_FILE_SUFFIX = "Template.txt";
 
     private final Path templateDirectoryPath;
+    private final Map<Status, String> cache = new ConcurrentHashMap<>();
 
     /**
      * Creates a TemplateStorageManager with the given directory path.
@@ -45,6 +50,10 @@ public class TemplateStorageManager implements TemplateStorage {
 
     @Override
     public String readTemplate(Status status) throws IOException {
+        String cached = cache.get(status);
+        if (cached != null) {
+            return cached;
+        }
         Path filePath = getTemplateFilePath(status);
 
         if (!Files.exists(filePath)) {
@@ -54,7 +63,23 @@ public class TemplateStorageManager implements TemplateStorage {
             return defaultContent;
         }
 
-        return FileUtil.readFromFile(filePath);
+        // a template saved while the file was being read is newer than what was read
+        String content = FileUtil.readFromFile(filePath);
+        String saved = cache.putIfAbsent(status, content);
+        return saved == null ? content : saved;
+    }
+
+    /**
+     * Reads the templates that have files into memory. Unlike {@link #readTemplate}, writes no default templates.
+     */
+    @Override
+    public void preloadTemplates() throws IOException {
+        for (Status status : Status.values()) {
+            Path filePath = getTemplateFilePath(status);
+            if (Files.exists(filePath)) {
+                cache.putIfAbsent(status, FileUtil.readFromFile(filePath));
+            }
+        }
     }
 
     @Override
@@ -65,6 +90,7 @@ public class TemplateStorageManager implements TemplateStorage {
         FileUtil.createIfMissing(templateDirectoryPath);
 
         FileUtil.writeToFile(filePath, content);
+        cache.put(status, content);
         logger.info("Saved template for " + status + " to " + filePath);
     }
 
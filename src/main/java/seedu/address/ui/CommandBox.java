@@ -1,12 +1,14 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
+import javafx.beans.property.ReadOnlyStringProperty;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -31,6 +33,13 @@ public class CommandBox extends UiPart<Region> {
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
     }
 
+    /**
+     * Returns the text currently typed into the command box.
+     */
+    ReadOnlyStringProperty commandTextProperty() {
+        return commandTextField.textProperty();
+    }
+
     /**
      * Handles the Enter button pressed event.
      */
@@ -41,12 +50,17 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        commandExecutor.execute(commandText).whenComplete((commandResult, failure) -> {
+            // leave anything typed while the command ran
+            if (!commandTextField.getText().equals(commandText)) {
+                return;
+            }
+            if (failure == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
     }
 
     /**
@@ -75,11 +89,19 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Executes the command and returns a future for its result, which completes on the JavaFX thread and fails
+         * if the command could not be parsed or executed.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#executeAsync(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
+    @Override
+    protected Region buildRoot(Region givenRoot) {
+        commandTextField = styled(new TextField(), "commandTextField");
+        commandTextField.setPromptText("Enter command here...");
+        commandTextField.setOnAction(event -> handleCommandEntered());
+        return styled(new StackPane(commandTextField), null, "stack-pane");
+    }
 }
@@ -0,0 +1,48 @@
+package seedu.address.ui;
+
+import java.lang.management.ManagementFactory;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Logs the time taken to reach the first frame of a scene, as a startup benchmark.
+ * The first frame is taken to be the first pulse that lays out the scene, which happens just before it is drawn.
+ */
+class FirstFrameTimer implements Runnable {
+    private static final Logger logger = LogsCenter.getLogger(FirstFrameTimer.class);
+
+    private final Scene scene;
+    private final long uiStartNanos;
+    private boolean isDone;
+
+    private FirstFrameTimer(Scene scene, long uiStartNanos) {
+        this.scene = scene;
+        this.uiStartNanos = uiStartNanos;
+    }
+
+    /**
+     * Logs the time to the first frame of {@code scene}, both since the JVM started and since
+     * {@code uiStartNanos}, as given by {@link System#nanoTime()}.
+     */
+    static void watch(Scene scene, long uiStartNanos) {
+        scene.addPostLayoutPulseListener(new FirstFrameTimer(scene, uiStartNanos));
+    }
+
+    @Override
+    public void run() {
+        if (isDone) {
+            return;
+        }
+        isDone = true;
+        // listeners cannot be removed while the pulse is notifying them
+        Platform.runLater(() -> scene.removePostLayoutPulseListener(this));
+
+        long sinceUiStartMillis = (System.nanoTime() - uiStartNanos) / 1_000_000;
+        long sinceLaunchMillis = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+        logger.info(String.format("Time to first frame: %d ms since launch, %d ms since the UI started (%s)",
+                sinceLaunchMillis, sinceUiStartMillis, UiPart.isBuiltInCode() ? "built in code" : "loaded from FXML"));
+    }
+}
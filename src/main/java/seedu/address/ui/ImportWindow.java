@@ -1,28 +1,46 @@
 package seedu.address.ui;
 
 import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.scene.control.Alert.AlertType;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.input.Clipboard;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyCodeCombination;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.HBox;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
+import seedu.address.model.ReadOnlyAddressBook;
 
 /**
- * Controller for the import data page
+ * Controller for the import data page.
+ * Only the start of the pasted JSON is shown, with its size and number of persons. The JSON is read and validated
+ * by a background task that can be cancelled, and only the final replacement of the data runs on the JavaFX
+ * application thread.
  */
 public class ImportWindow extends UiPart<Stage> {
+    static final int PREVIEW_LENGTH = 2000;
+    static final String TRUNCATED_SUFFIX = "\n...";
+
     private static final Logger logger = LogsCenter.getLogger(ImportWindow.class);
     private static final String FXML_FILE = "ImportWindow.fxml";
     private static final String DEFAULT_PREVIEW_TEXT = "No data yet.\nPaste JSON data here";
+    private static final String STATS_COUNTING_FORMAT = "%1$,d characters, counting persons...";
+    private static final String STATS_FORMAT = "%1$,d characters, %2$,d persons";
+    private static final String STATS_INVALID_FORMAT = "%1$,d characters, not valid JSON";
 
     // Success
     private static final String ALERT_SUCCESS_TITLE = "Success";
@@ -44,10 +62,33 @@ public class ImportWindow extends UiPart<Stage> {
     private static final String ALERT_NO_DATA_TEXT = "Please paste JSON data before saving.";
 
     private final Logic logic;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "import");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private String pastedJson;
+    private Task<Integer> countTask;
+    private Task<ReadOnlyAddressBook> importTask;
 
     @FXML
     private Text jsonPreview;
 
+    @FXML
+    private Label jsonStats;
+
+    @FXML
+    private Button pasteJsonButton;
+
+    @FXML
+    private Button saveButton;
+
+    @FXML
+    private HBox importProgressContainer;
+
+    @FXML
+    private ProgressBar importProgress;
+
     /**
      * Creates a new ImportWindow.
      *
@@ -57,8 +98,9 @@ public class ImportWindow extends UiPart<Stage> {
     public ImportWindow(Stage root, Logic logic) {
         super(FXML_FILE, root);
         this.logic = logic;
-        jsonPreview.setText(DEFAULT_PREVIEW_TEXT);
+        setJson(null);
         setupKeyboardShortcuts();
+        root.setOnHiding(event -> cancelTasks());
     }
 
     /**
@@ -109,7 +151,7 @@ public class ImportWindow extends UiPart<Stage> {
      */
     public void show() {
         logger.fine("Showing import window.");
-        jsonPreview.setText(DEFAULT_PREVIEW_TEXT);
+        setJson(null);
         getRoot().show();
         getRoot().centerOnScreen();
     }
@@ -140,9 +182,12 @@ public class ImportWindow extends UiPart<Stage> {
      */
     @FXML
     public void pasteJson() {
+        if (isImporting()) {
+            return;
+        }
         final Clipboard clipboard = Clipboard.getSystemClipboard();
         if (clipboard.hasString()) {
-            jsonPreview.setText(clipboard.getString());
+            setJson(clipboard.getString());
         } else {
             ShowAlert.showAlertDialogAndWait(getRoot(), AlertType.WARNING, ALERT_NO_CLIPBOARD_TITLE,
                     ALERT_NO_CLIPBOARD_HEADER,
@@ -151,33 +196,128 @@ public class ImportWindow extends UiPart<Stage> {
     }
 
     /**
-     * Saves the JSON text from the preview to the address book.
-     * Validates the JSON and imports it through the Logic layer.
+     * Saves the pasted JSON text to the address book.
+     * Reads and validates the JSON in the background, then imports it through the Logic layer.
      */
     @FXML
     public void saveJson() {
-        String text = jsonPreview.getText();
-
-        if (this.isEmptyText(text)) {
+        if (isImporting()) {
+            return;
+        }
+        if (this.isEmptyText(pastedJson)) {
             this.showEmptyTextAlertDialog();
             return;
         }
 
-        try {
-            this.importData(text);
-        } catch (IOException e) {
-            this.handleImportError(e);
+        String json = pastedJson;
+        Task<ReadOnlyAddressBook> task = new Task<>() {
+            @Override
+            protected ReadOnlyAddressBook call() throws IOException {
+                return logic.readImportedAddressBook(json, (workDone, totalWork) -> {
+                    if (isCancelled()) {
+                        throw new CancellationException();
+                    }
+                    updateProgress(workDone, totalWork);
+                });
+            }
+        };
+        task.setOnSucceeded(event -> importData(task.getValue()));
+        task.setOnFailed(event -> {
+            showImportRunning(false);
+            handleImportError(task.getException());
+        });
+        task.setOnCancelled(event -> showImportRunning(false));
+        importTask = task;
+        if (countTask != null) {
+            countTask.cancel();
+        }
+        showImportRunning(true);
+        worker.execute(task);
+    }
+
+    /**
+     * Cancels the import in progress, leaving the current data unchanged.
+     */
+    @FXML
+    public void cancelImport() {
+        if (isImporting()) {
+            logger.info("Import cancelled");
+            importTask.cancel();
         }
     }
 
     /**
-     * Imports the JSON data using the logic layer.
+     * Replaces the current data with the {@code addressBook} read from the pasted JSON.
+     * The data is saved in the background afterwards, and a failure to save it is shown in the main window.
      */
-    private void importData(String jsonData) throws IOException {
-        logic.importJsonString(jsonData);
+    private void importData(ReadOnlyAddressBook addressBook) {
+        showImportRunning(false);
+        logic.importAddressBook(addressBook);
         this.showSuccessAlertAndClose();
     }
 
+    private boolean isImporting() {
+        return importTask != null && importTask.isRunning();
+    }
+
+    private void showImportRunning(boolean isRunning) {
+        importProgressContainer.setVisible(isRunning);
+        importProgressContainer.setManaged(isRunning);
+        pasteJsonButton.setDisable(isRunning);
+        saveButton.setDisable(isRunning);
+        if (isRunning) {
+            importProgress.progressProperty().bind(importTask.progressProperty());
+        } else {
+            importProgress.progressProperty().unbind();
+        }
+    }
+
+    /**
+     * Keeps {@code json} as the data to import and shows the start of it, with its size and, once counted in the
+     * background, its number of persons. Clears the data if {@code json} is null.
+     */
+    private void setJson(String json) {
+        if (countTask != null) {
+            countTask.cancel();
+        }
+        pastedJson = json;
+        if (json == null) {
+            jsonPreview.setText(DEFAULT_PREVIEW_TEXT);
+            jsonStats.setText("");
+            return;
+        }
+
+        jsonPreview.setText(getPreview(json));
+        jsonStats.setText(String.format(STATS_COUNTING_FORMAT, json.length()));
+        Task<Integer> task = new Task<>() {
+            @Override
+            protected Integer call() throws IOException {
+                return logic.countImportedPersons(json);
+            }
+        };
+        task.setOnSucceeded(event -> jsonStats.setText(String.format(STATS_FORMAT, json.length(), task.getValue())));
+        task.setOnFailed(event -> jsonStats.setText(String.format(STATS_INVALID_FORMAT, json.length())));
+        countTask = task;
+        worker.execute(task);
+    }
+
+    /**
+     * Returns the start of {@code json}, at most {@link #PREVIEW_LENGTH} characters, marking where it was cut.
+     */
+    static String getPreview(String json) {
+        if (json.length() <= PREVIEW_LENGTH) {
+            return json;
+        }
+        return json.substring(0, PREVIEW_LENGTH) + TRUNCATED_SUFFIX;
+    }
+
+    private void cancelTasks() {
+        if (countTask != null) {
+            countTask.cancel();
+        }
+        cancelImport();
+    }
+
     /**
      * Shows success alert and closes the import window.
      */
@@ -190,7 +330,7 @@ public class ImportWindow extends UiPart<Stage> {
     /**
      * Handles import error by logging and showing error alert.
      */
-    private void handleImportError(IOException e) {
+    private void handleImportError(Throwable e) {
         logger.warning("Failed to import JSON: " + e.getMessage());
         this.showImportFailedAlertDialog();
     }
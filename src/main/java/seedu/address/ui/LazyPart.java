@@ -0,0 +1,56 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javafx.application.Platform;
+
+/**
+ * A UI part that is only created the first time it is needed, so that windows and panels most sessions never open
+ * do not slow down startup. It can also be created ahead of use once the app is idle.
+ * Must only be used on the JavaFX application thread.
+ *
+ * @param <T> the type of the part
+ */
+class LazyPart<T> {
+
+    private final Supplier<T> factory;
+    private T part;
+
+    LazyPart(Supplier<T> factory) {
+        requireNonNull(factory);
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the part, creating it if needed.
+     */
+    T get() {
+        if (part == null) {
+            part = requireNonNull(factory.get());
+        }
+        return part;
+    }
+
+    boolean isCreated() {
+        return part != null;
+    }
+
+    /**
+     * Runs {@code action} on the part if it has been created. Parts that were never created need no cleanup.
+     */
+    void ifCreated(Consumer<T> action) {
+        if (part != null) {
+            action.accept(part);
+        }
+    }
+
+    /**
+     * Schedules the part to be created on the JavaFX application thread, after any events already queued.
+     */
+    void prewarm() {
+        Platform.runLater(this::get);
+    }
+}
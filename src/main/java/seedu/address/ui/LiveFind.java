@@ -0,0 +1,155 @@
+package seedu.address.ui;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.beans.value.ObservableValue;
+import javafx.util.Duration;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.query.FindResult;
+
+/**
+ * Filters the person list while a {@code find} command is being typed, before it is entered.
+ * Once the command text has not changed for {@link #DEBOUNCE_DELAY}, its arguments are parsed and evaluated on a
+ * background thread and the matches are shown on the JavaFX thread, along with the status and tags views the command
+ * would show. An evaluation overtaken by newer typing is cancelled if it has not started yet, and its result is dropped
+ * otherwise, so typing never waits for a search. When the text stops being a {@code find} command, what was shown
+ * before is put back unless something else, such as entering the command, has changed the list since.
+ */
+class LiveFind {
+    private static final Logger logger = LogsCenter.getLogger(LiveFind.class);
+    private static final Duration DEBOUNCE_DELAY = Duration.millis(50);
+
+    private final Logic logic;
+    private final ObservableValue<String> commandText;
+    private final Debounce debounce;
+    private final ExecutorService evaluator;
+    private final Executor displayExecutor;
+
+    // Only accessed on the JavaFX application thread
+    private long generation;
+    private Future<?> pendingEvaluation;
+
+    /**
+     * Starts filtering {@code logic}'s person list as {@code commandText} changes.
+     */
+    LiveFind(Logic logic, ObservableValue<String> commandText) {
+        this(logic, commandText, LiveFind::pauseTransition, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-find");
+            thread.setDaemon(true);
+            return thread;
+        }), Platform::runLater);
+    }
+
+    /**
+     * Starts filtering {@code logic}'s person list as {@code commandText} changes, timing pauses in typing with the
+     * debounce made by {@code debounceFactory}, evaluating searches on {@code evaluator}, and showing their results
+     * with {@code displayExecutor}, which must run tasks on the thread that changes {@code commandText}.
+     */
+    LiveFind(Logic logic, ObservableValue<String> commandText, Function<Runnable, Debounce> debounceFactory,
+            ExecutorService evaluator, Executor displayExecutor) {
+        requireAllNonNull(logic, commandText, debounceFactory, evaluator, displayExecutor);
+        this.logic = logic;
+        this.commandText = commandText;
+        this.debounce = debounceFactory.apply(this::evaluate);
+        this.evaluator = evaluator;
+        this.displayExecutor = displayExecutor;
+        commandText.addListener((unused1, unused2, newText) -> handleTextChanged(newText));
+    }
+
+    /**
+     * Returns the arguments of {@code commandText} if it is a {@code find} command, or null otherwise.
+     */
+    static String getFindArguments(String commandText) {
+        String trimmed = commandText.stripLeading();
+        if (!trimmed.startsWith(FindCommand.COMMAND_WORD)) {
+            return null;
+        }
+        String arguments = trimmed.substring(FindCommand.COMMAND_WORD.length());
+        return arguments.isEmpty() || Character.isWhitespace(arguments.charAt(0)) ? arguments : null;
+    }
+
+    private void handleTextChanged(String newText) {
+        generation++;
+        if (pendingEvaluation != null) {
+            pendingEvaluation.cancel(false);
+            pendingEvaluation = null;
+        }
+        if (getFindArguments(newText) != null) {
+            debounce.restart();
+        } else {
+            debounce.stop();
+            logic.endFindPreview();
+        }
+    }
+
+    private void evaluate() {
+        String arguments = getFindArguments(commandText.getValue());
+        if (arguments == null) {
+            return;
+        }
+        long evaluationGeneration = generation;
+        pendingEvaluation = evaluator.submit(() -> {
+            try {
+                FindResult result = logic.evaluateFind(arguments);
+                displayExecutor.execute(() -> show(result, evaluationGeneration));
+            } catch (ParseException e) {
+                // The arguments are still being typed, so keep showing the last valid search
+                logger.finer("Live find skipped incomplete arguments: " + e.getMessage());
+            }
+        });
+    }
+
+    private void show(FindResult result, long evaluationGeneration) {
+        if (evaluationGeneration != generation) {
+            return;
+        }
+        logic.previewFind(result);
+    }
+
+    /**
+     * Returns a debounce that runs {@code action} on the JavaFX thread once {@link #DEBOUNCE_DELAY} has passed since
+     * it was last restarted.
+     */
+    private static Debounce pauseTransition(Runnable action) {
+        PauseTransition pause = new PauseTransition(DEBOUNCE_DELAY);
+        pause.setOnFinished(event -> action.run());
+        return new Debounce() {
+            @Override
+            public void restart() {
+                pause.playFromStart();
+            }
+
+            @Override
+            public void stop() {
+                pause.stop();
+            }
+        };
+    }
+
+    /**
+     * Runs an action once some time has passed without the debounce being restarted.
+     */
+    interface Debounce {
+        /**
+         * Starts waiting again from the beginning, whether or not the debounce was already waiting.
+         */
+        void restart();
+
+        /**
+         * Stops waiting, so that the action does not run until the debounce is restarted.
+         */
+        void stop();
+    }
+}
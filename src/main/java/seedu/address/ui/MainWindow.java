@@ -1,19 +1,33 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
 import java.util.logging.Logger;
 
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.geometry.Insets;
+import javafx.scene.Scene;
+import javafx.scene.control.Menu;
+import javafx.scene.control.MenuBar;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.TemplateViewState;
@@ -25,6 +39,7 @@ import seedu.address.model.TemplateViewState;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final Duration PREWARM_DELAY = Duration.seconds(1);
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -33,12 +48,16 @@ public class MainWindow extends UiPart<Stage> {
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
-    private TemplateViewPanel templateViewPanel;
+    private LazyPart<TemplateViewPanel> templateViewPanel;
     private ResultDisplay resultDisplay;
-    private HelpWindow helpWindow;
-    private ImportWindow importWindow;
+    private CommandBox commandBox;
+    private LazyPart<HelpWindow> helpWindow;
+    private LazyPart<ImportWindow> importWindow;
     private SidebarPanel sidebarPanel;
 
+    // Only accessed on the JavaFX application thread
+    private CompletableFuture<?> previousCommand = CompletableFuture.completedFuture(null);
+
     @FXML
     private StackPane commandBoxPlaceholder;
 
@@ -78,8 +97,10 @@ public class MainWindow extends UiPart<Stage> {
 
         setAccelerators();
 
-        helpWindow = new HelpWindow();
-        importWindow = new ImportWindow(logic);
+        // Secondary windows and panels are only built when first opened
+        helpWindow = new LazyPart<>(HelpWindow::new);
+        importWindow = new LazyPart<>(() -> new ImportWindow(logic));
+        templateViewPanel = new LazyPart<>(() -> new TemplateViewPanel(logic.getTemplateViewStateProperty()));
     }
 
     public Stage getPrimaryStage() {
@@ -130,18 +151,18 @@ public class MainWindow extends UiPart<Stage> {
         personListPanel = new PersonListPanel(logic.getFilteredPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        templateViewPanel = new TemplateViewPanel(logic.getTemplateViewStateProperty());
-
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(resultDisplay::setFeedbackToUser);
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
-        sidebarPanel = new SidebarPanel(logic.getStatusViewStateProperty(), logic.getTagsViewStateProperty());
+        sidebarPanel = new SidebarPanel(logic.getStatusViewStateProperty(), logic.getTagsViewStateProperty(),
+                logic.getSavedSearchList());
         sidebarPanelPlaceholder.getChildren().add(sidebarPanel.getRoot());
 
         // Listen for template view state changes
@@ -154,6 +175,27 @@ public class MainWindow extends UiPart<Stage> {
         });
     }
 
+    /**
+     * Builds the secondary windows and panels once the app has been idle for {@link #PREWARM_DELAY}, one per
+     * event so that user input in between is not held up, making their first opening instant.
+     */
+    void prewarmSecondaryParts() {
+        PauseTransition idle = new PauseTransition(PREWARM_DELAY);
+        idle.setOnFinished(event -> {
+            helpWindow.prewarm();
+            importWindow.prewarm();
+            templateViewPanel.prewarm();
+        });
+        idle.play();
+    }
+
+    /**
+     * Filters the person list as a {@code find} command is typed into the command box, see {@link LiveFind}.
+     */
+    void enableLiveFind() {
+        new LiveFind(logic, commandBox.commandTextProperty());
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -171,10 +213,11 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleHelp() {
-        if (!helpWindow.isShowing()) {
-            helpWindow.show();
+        HelpWindow window = helpWindow.get();
+        if (!window.isShowing()) {
+            window.show();
         } else {
-            helpWindow.focus();
+            window.focus();
         }
     }
 
@@ -190,7 +233,7 @@ public class MainWindow extends UiPart<Stage> {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
-        helpWindow.hide();
+        helpWindow.ifCreated(HelpWindow::hide);
         primaryStage.hide();
     }
 
@@ -198,10 +241,11 @@ public class MainWindow extends UiPart<Stage> {
      * Handles importing from file.
      */
     public void handleImport() {
-        if (!importWindow.isShowing()) {
-            importWindow.show();
+        ImportWindow window = importWindow.get();
+        if (!window.isShowing()) {
+            window.show();
         } else {
-            importWindow.focus();
+            window.focus();
         }
     }
 
@@ -210,12 +254,13 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleExport() {
-        try {
-            CommandResult result = logic.execute("export");
-            resultDisplay.setFeedbackToUser(result.getFeedbackToUser());
-        } catch (CommandException | ParseException e) {
-            resultDisplay.setFeedbackToUser(e.getMessage());
-        }
+        submitInOrder(ExportCommand.COMMAND_WORD, () -> { }, (result, failure) -> {
+            if (failure != null) {
+                resultDisplay.setFeedbackToUser(failure.getMessage());
+            } else {
+                resultDisplay.setFeedbackToUser(result.getFeedbackToUser(), result.getDetails());
+            }
+        });
     }
 
     public PersonListPanel getPersonListPanel() {
@@ -223,18 +268,21 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command once the commands entered before it have finished, and returns a future for its result
+     * that completes on the JavaFX thread.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#executeAsync(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            // Before executing command, update template content if in template view
-            updateTemplateContentInModel();
-
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        // Before executing command, update template content if in template view
+        return submitInOrder(commandText, this::updateTemplateContentInModel, (commandResult, failure) -> {
+            if (failure != null) {
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(failure.getMessage());
+                return;
+            }
             logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser(), commandResult.getDetails());
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -248,13 +296,39 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
+        });
+    }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+    /**
+     * Executes {@code commandText} after every command submitted before it has finished, so that commands take effect
+     * in the order they were entered even though read-only ones run in the background. {@code beforeExecute} runs
+     * right before the command is executed, and {@code onResult} once it has finished, with its result or the
+     * {@code CommandException} or {@code ParseException} it failed with, both on the JavaFX thread.
+     */
+    private CompletableFuture<CommandResult> submitInOrder(String commandText, Runnable beforeExecute,
+            BiConsumer<CommandResult, Exception> onResult) {
+        CompletableFuture<CommandResult> result = previousCommand.thenComposeAsync(unused -> {
+            beforeExecute.run();
+            try {
+                return logic.executeAsync(commandText);
+            } catch (ParseException e) {
+                return CompletableFuture.<CommandResult>failedFuture(e);
+            }
+        }, Platform::runLater).handleAsync((commandResult, failure) -> {
+            Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+            if (cause == null) {
+                onResult.accept(commandResult, null);
+                return commandResult;
+            }
+            if (cause instanceof CommandException || cause instanceof ParseException) {
+                onResult.accept(null, (Exception) cause);
+            } else {
+                logger.severe("Command " + commandText + " failed unexpectedly: " + cause);
+            }
+            throw new CompletionException(cause);
+        }, Platform::runLater);
+        previousCommand = result.exceptionally(failure -> null);
+        return result;
     }
 
     /**
@@ -262,7 +336,7 @@ public class MainWindow extends UiPart<Stage> {
      */
     private void showTemplateView() {
         personListPanelPlaceholder.getChildren().clear();
-        personListPanelPlaceholder.getChildren().add(templateViewPanel.getRoot());
+        personListPanelPlaceholder.getChildren().add(templateViewPanel.get().getRoot());
         this.hideSidebar();
     }
 
@@ -295,10 +369,64 @@ public class MainWindow extends UiPart<Stage> {
     private void updateTemplateContentInModel() {
         TemplateViewState currentState = logic.getTemplateViewState();
         if (currentState != null) {
-            String currentContent = templateViewPanel.getTemplateContent();
+            String currentContent = templateViewPanel.get().getTemplateContent();
             TemplateViewState updatedState =
                 new TemplateViewState(currentState.getStatus(), currentContent);
             logic.setTemplateViewState(updatedState);
         }
     }
+
+    @Override
+    protected Stage buildRoot(Stage stage) {
+        helpMenuItem = new MenuItem("Help");
+        helpMenuItem.setOnAction(event -> handleHelp());
+        importMenuItem = new MenuItem("Import Data");
+        importMenuItem.setOnAction(event -> handleImport());
+        exportMenuItem = new MenuItem("Export Data");
+        exportMenuItem.setOnAction(event -> handleExport());
+        MenuItem exitMenuItem = new MenuItem("Exit");
+        exitMenuItem.setOnAction(event -> handleExit());
+        MenuBar menuBar = styled(new MenuBar(new Menu("File", null, importMenuItem, exportMenuItem, exitMenuItem),
+                new Menu("Help", null, helpMenuItem)), "menuBar");
+        VBox.setVgrow(menuBar, Priority.NEVER);
+
+        commandBoxPlaceholder = placeholder("commandBoxPlaceholder", "pane-with-border");
+        commandBoxPlaceholder.setPadding(new Insets(5, 10, 5, 10));
+        resultDisplayPlaceholder = placeholder("resultDisplayPlaceholder", "pane-with-border");
+        resultDisplayPlaceholder.setPadding(new Insets(5, 10, 5, 10));
+        resultDisplayPlaceholder.setMinHeight(100);
+        resultDisplayPlaceholder.setPrefHeight(100);
+        resultDisplayPlaceholder.setMaxHeight(100);
+
+        personListPanelPlaceholder = placeholder("personListPanelPlaceholder");
+        VBox.setVgrow(personListPanelPlaceholder, Priority.ALWAYS);
+        VBox personList = styled(new VBox(personListPanelPlaceholder), "personList", "pane-with-border");
+        personList.setMinWidth(340);
+        personList.setPrefWidth(340);
+        personList.setPadding(new Insets(10));
+        HBox.setHgrow(personList, Priority.SOMETIMES);
+        sidebarPanelPlaceholder = styled(new StackPane(), "sidebarPanelPlaceholder", "pane-with-border");
+        sidebarPanelPlaceholder.setPrefWidth(300);
+        HBox content = styled(new HBox(personList, sidebarPanelPlaceholder), null, "background");
+        VBox.setVgrow(content, Priority.ALWAYS);
+
+        statusbarPlaceholder = placeholder("statusbarPlaceholder");
+        VBox layout = styled(new VBox(menuBar, commandBoxPlaceholder, resultDisplayPlaceholder, content,
+                statusbarPlaceholder), null, "background");
+
+        Scene scene = new Scene(layout);
+        scene.getStylesheets().addAll(getStylesheetUrl("DarkTheme.css"), getStylesheetUrl("Extensions.css"));
+        stage.setScene(scene);
+        stage.setTitle("OnlySales");
+        stage.setMinHeight(600);
+        stage.setMinWidth(750);
+        stage.setOnCloseRequest(event -> handleExit());
+        return stage;
+    }
+
+    private static StackPane placeholder(String fxId, String... styleClasses) {
+        StackPane placeholder = styled(new StackPane(), fxId, styleClasses);
+        VBox.setVgrow(placeholder, Priority.NEVER);
+        return placeholder;
+    }
 }
@@ -0,0 +1,178 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.model.person.Person;
+
+/**
+ * A window of consecutive rows of a possibly huge person list, shown in place of the whole list so that the list
+ * view, its selection model and its cell size cache only ever track one window of rows.
+ * The source is the model's filtered list, which already maps row numbers to persons through a compact index, so
+ * the total row count and any single row are found in O(1), and moving the window with {@link #moveTo(int)} costs
+ * O(window size) however many rows there are. A source no longer than the window is shown whole, passing each of
+ * its changes on as is; otherwise any change to the source refreshes the window as a whole.
+ * A list view showing this list only knows of the rows in the window, so its scroll bar spans the window rather than
+ * the whole source. {@link #describeWindow()} says which rows those are, and {@link #pageBy(int)} moves to the
+ * windows before and after.
+ */
+class PagedPersonList extends ObservableListBase<Person> {
+
+    static final String MESSAGE_WINDOW = "Rows %1$d to %2$d of %3$d";
+
+    private final ObservableList<Person> source;
+    private final int windowSize;
+    private final List<Person> shown = new ArrayList<>();
+    private int offset;
+
+    /**
+     * Creates a list showing at most {@code windowSize} rows of {@code source}, starting from the first.
+     */
+    PagedPersonList(ObservableList<Person> source, int windowSize) {
+        requireNonNull(source);
+        checkArgument(windowSize > 0, "Window size must be positive");
+        this.source = source;
+        this.windowSize = windowSize;
+        shown.addAll(source.subList(0, Math.min(windowSize, source.size())));
+        source.addListener(this::handleSourceChanged);
+    }
+
+    /**
+     * Returns true if the source is longer than the window, so that only part of it is shown.
+     */
+    boolean isPaged() {
+        return source.size() > windowSize;
+    }
+
+    /**
+     * Returns the row number in the source of the first row shown.
+     */
+    int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns the number of rows in the source.
+     */
+    int getTotalSize() {
+        return source.size();
+    }
+
+    /**
+     * Moves the window so that it starts at source row {@code newOffset}, as far as the source allows, and returns
+     * the offset actually used.
+     */
+    int moveTo(int newOffset) {
+        int clamped = clampOffset(newOffset);
+        if (clamped != offset) {
+            offset = clamped;
+            refresh();
+        }
+        return offset;
+    }
+
+    /**
+     * Moves the window by {@code pages} whole windows, forwards if positive and backwards if negative, as far as the
+     * source allows, and returns the offset actually used.
+     */
+    int pageBy(int pages) {
+        return moveTo(offset + pages * windowSize);
+    }
+
+    /**
+     * Returns which rows of the source are shown, numbered from 1 like the person cards.
+     */
+    String describeWindow() {
+        return String.format(MESSAGE_WINDOW, offset + 1, offset + shown.size(), source.size());
+    }
+
+    /**
+     * Moves the window so that source row {@code index} is in its middle, as far as the source allows, and returns
+     * the position of that row in this list.
+     */
+    int center(int index) {
+        checkArgument(index >= 0 && index < source.size(), "Index " + index + " out of bounds");
+        return index - moveTo(index - windowSize / 2);
+    }
+
+    @Override
+    public Person get(int index) {
+        return shown.get(index);
+    }
+
+    @Override
+    public int size() {
+        return shown.size();
+    }
+
+    private int clampOffset(int newOffset) {
+        return Math.max(0, Math.min(newOffset, source.size() - windowSize));
+    }
+
+    private void handleSourceChanged(ListChangeListener.Change<? extends Person> change) {
+        boolean wasWhole = offset == 0 && shown.size() == source.size() - sizeDelta(change);
+        if (!wasWhole || isPaged()) {
+            offset = clampOffset(offset);
+            refresh();
+            return;
+        }
+
+        // The whole source was and still is shown, so its changes apply to this list as they are
+        beginChange();
+        try {
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    for (int i = change.getFrom(); i < change.getTo(); i++) {
+                        shown.set(i, source.get(i));
+                        nextUpdate(i);
+                    }
+                    continue;
+                }
+                int from = change.getFrom();
+                if (change.wasRemoved()) {
+                    shown.subList(from, from + change.getRemovedSize()).clear();
+                    nextRemove(from, change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    shown.addAll(from, change.getAddedSubList());
+                    nextAdd(from, change.getTo());
+                }
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Returns how many rows {@code change} added to the source overall, leaving the change ready to be read again.
+     */
+    private static int sizeDelta(ListChangeListener.Change<? extends Person> change) {
+        int delta = 0;
+        while (change.next()) {
+            delta += change.getAddedSize() - change.getRemovedSize();
+        }
+        change.reset();
+        return delta;
+    }
+
+    /**
+     * Replaces the rows shown with the ones the window now covers, reporting it as a single change.
+     */
+    private void refresh() {
+        List<Person> removed = new ArrayList<>(shown);
+        shown.clear();
+        shown.addAll(source.subList(offset, Math.min(offset + windowSize, source.size())));
+        beginChange();
+        try {
+            nextReplace(0, shown.size(), removed);
+        } finally {
+            endChange();
+        }
+    }
+}
@@ -1,20 +1,35 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
+import javafx.scene.layout.ColumnConstraints;
 import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 /**
  * An UI component that displays information of a {@code Person}.
+ * A card is loaded from FXML once and then rebound to whichever person its list cell currently shows, so scrolling
+ * never reloads the layout. Tag labels that a person no longer needs are kept aside for the next one.
  */
 public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
+    private static final String STATUS_STYLE_PREFIX = "status_";
+    private static final int MAX_SPARE_TAG_LABELS = 8;
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -24,7 +39,10 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private final Deque<Label> spareTagLabels = new ArrayDeque<>();
+    private Person person;
+    private int displayedIndex;
+    private String statusStyle;
 
     @FXML
     private HBox cardPane;
@@ -43,23 +61,113 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
+    /**
+     * Creates an empty {@code PersonCard}, to be filled in by {@link #setPerson}.
+     */
+    public PersonCard() {
+        super(FXML);
+        status.getStyleClass().setAll("status_label"); // need to clear first or else text remains white
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows {@code person} at {@code displayedIndex}, reusing this card's controls.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        if (person == this.person && displayedIndex == this.displayedIndex) {
+            return;
+        }
         this.person = person;
+        this.displayedIndex = displayedIndex;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
         status.setText(person.getStatusText());
-        status.getStyleClass().clear(); // need to clear first or else text remains white
-        status.getStyleClass().add("status_label");
-        status.getStyleClass().add("status_" + person.getStatus().name().toLowerCase());
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        setStatusStyle(STATUS_STYLE_PREFIX + person.getStatus().name().toLowerCase());
+        setTags(person.getTags());
+    }
+
+    private void setStatusStyle(String newStyle) {
+        if (newStyle.equals(statusStyle)) {
+            return;
+        }
+        if (statusStyle != null) {
+            status.getStyleClass().remove(statusStyle);
+        }
+        status.getStyleClass().add(newStyle);
+        statusStyle = newStyle;
+    }
+
+    /**
+     * Relabels the existing tag labels, taking extra ones from the spares or creating them only when needed.
+     */
+    private void setTags(Set<Tag> personTags) {
+        ObservableList<Node> labels = tags.getChildren();
+        while (labels.size() > personTags.size()) {
+            Label surplus = (Label) labels.remove(labels.size() - 1);
+            if (spareTagLabels.size() < MAX_SPARE_TAG_LABELS) {
+                spareTagLabels.push(surplus);
+            }
+        }
+        int i = 0;
+        for (Tag tag : personTags) {
+            Label label;
+            if (i < labels.size()) {
+                label = (Label) labels.get(i);
+            } else {
+                label = spareTagLabels.isEmpty() ? new Label() : spareTagLabels.pop();
+                labels.add(label);
+            }
+            label.setText(tag.tagName);
+            i++;
+        }
+    }
+
+    @Override
+    protected Region buildRoot(Region givenRoot) {
+        id = styled(new Label(), "id", "cell_big_label");
+        id.setMinWidth(Region.USE_PREF_SIZE); // ensures that the label text is never truncated
+        name = styled(new Label(), "name", "cell_big_label");
+        status = styled(new Label(), "status", "status_label");
+        status.setMinWidth(100);
+        status.setWrapText(true);
+        Region spacer = new Region();
+        HBox.setHgrow(spacer, Priority.ALWAYS);
+        HBox header = new HBox(0.5, id, name, spacer, status);
+        header.setAlignment(Pos.CENTER_LEFT);
+
+        tags = styled(new FlowPane(), "tags");
+        phone = styled(new Label(), "phone", "cell_small_label");
+        address = styled(new Label(), "address", "cell_small_label");
+        email = styled(new Label(), "email", "cell_small_label");
+        VBox details = new VBox(header, tags, phone, address, email);
+        details.setAlignment(Pos.CENTER_LEFT);
+        details.setMinHeight(105);
+        details.setPadding(new Insets(5, 5, 5, 15));
+
+        ColumnConstraints column = new ColumnConstraints();
+        column.setHgrow(Priority.SOMETIMES);
+        column.setMinWidth(10);
+        column.setPrefWidth(150);
+        GridPane grid = new GridPane();
+        grid.getColumnConstraints().add(column);
+        grid.add(details, 0, 0);
+        HBox.setHgrow(grid, Priority.ALWAYS);
+
+        cardPane = styled(new HBox(grid), "cardPane");
+        return cardPane;
     }
 }
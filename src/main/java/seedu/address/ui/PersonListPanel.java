@@ -2,20 +2,42 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
+import javafx.scene.control.Tooltip;
+import javafx.scene.control.skin.VirtualFlow;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
 
 /**
  * Panel containing the list of persons.
+ * Very long lists are shown one window of {@link #WINDOW_SIZE} rows at a time, see {@link PagedPersonList}. The
+ * window follows the scrolling, moving once the visible rows come within {@link #PREFETCH_MARGIN} rows of either of
+ * its ends, and Home and End jump straight to the first and last person.
+ * The list view's scroll bar only spans the current window, so while a list is paged a label above it shows which
+ * rows of the whole list the window holds, and Ctrl+Page Up and Ctrl+Page Down move a whole window at a time.
  */
 public class PersonListPanel extends UiPart<Region> {
     private static final String FXML = "PersonListPanel.fxml";
+    private static final int WINDOW_SIZE = 600;
+    private static final int PREFETCH_MARGIN = 100;
+
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
+    private final PagedPersonList pagedPersons;
+    private boolean isWindowMovePending;
+
+    @FXML
+    private Label windowLabel;
 
     @FXML
     private ListView<Person> personListView;
@@ -25,14 +47,84 @@ public class PersonListPanel extends UiPart<Region> {
      */
     public PersonListPanel(ObservableList<Person> personList) {
         super(FXML);
-        personListView.setItems(personList);
+        pagedPersons = new PagedPersonList(personList, WINDOW_SIZE);
+        personListView.setItems(pagedPersons);
         personListView.setCellFactory(listView -> new PersonListViewCell());
+        personListView.addEventFilter(KeyEvent.KEY_PRESSED, this::handleKeyPressed);
+        pagedPersons.addListener((ListChangeListener<Person>) change -> updateWindowLabel());
+        updateWindowLabel();
+    }
+
+    /**
+     * Scrolls the list so that the person at {@code index} of the full list is shown at the top, in O(window size)
+     * however long the list is.
+     */
+    public void scrollTo(int index) {
+        int position = pagedPersons.center(index);
+        personListView.scrollTo(position);
+    }
+
+    private void handleKeyPressed(KeyEvent event) {
+        if (!pagedPersons.isPaged()) {
+            return;
+        }
+        if (event.getCode() == KeyCode.HOME) {
+            scrollTo(0);
+            event.consume();
+        } else if (event.getCode() == KeyCode.END) {
+            scrollTo(pagedPersons.getTotalSize() - 1);
+            event.consume();
+        } else if (event.isControlDown() && event.getCode() == KeyCode.PAGE_DOWN) {
+            pagedPersons.pageBy(1);
+            personListView.scrollTo(0);
+            event.consume();
+        } else if (event.isControlDown() && event.getCode() == KeyCode.PAGE_UP) {
+            pagedPersons.pageBy(-1);
+            personListView.scrollTo(0);
+            event.consume();
+        }
+    }
+
+    private void updateWindowLabel() {
+        boolean isPaged = pagedPersons.isPaged();
+        windowLabel.setVisible(isPaged);
+        windowLabel.setManaged(isPaged);
+        if (isPaged) {
+            windowLabel.setText(pagedPersons.describeWindow());
+        }
+    }
+
+    /**
+     * Moves the window once a row within {@link #PREFETCH_MARGIN} of either of its ends is shown, keeping the same
+     * persons on screen. Runs after the current layout pass, since the items must not change during it.
+     */
+    private void handleRowShown(int position) {
+        boolean isNearStart = position < PREFETCH_MARGIN && pagedPersons.getOffset() > 0;
+        boolean isNearEnd = position >= pagedPersons.size() - PREFETCH_MARGIN
+                && pagedPersons.getOffset() + pagedPersons.size() < pagedPersons.getTotalSize();
+        if (isWindowMovePending || !(isNearStart || isNearEnd)) {
+            return;
+        }
+        isWindowMovePending = true;
+        Platform.runLater(() -> {
+            isWindowMovePending = false;
+            VirtualFlow<?> flow = (VirtualFlow<?>) personListView.lookup(".virtual-flow");
+            if (flow == null || flow.getFirstVisibleCell() == null) {
+                return;
+            }
+            int firstVisible = pagedPersons.getOffset() + flow.getFirstVisibleCell().getIndex();
+            logger.fine("Moving the person list window to row " + firstVisible);
+            personListView.scrollTo(pagedPersons.center(firstVisible));
+        });
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Each cell creates its card once, on first use, and rebinds it whenever the cell is reused.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard card;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -41,9 +133,25 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new PersonCard();
+                }
+                card.setPerson(person, pagedPersons.getOffset() + getIndex() + 1);
+                setGraphic(card.getRoot());
+                handleRowShown(getIndex());
             }
         }
     }
 
+    @Override
+    protected Region buildRoot(Region givenRoot) {
+        windowLabel = styled(new Label(), "windowLabel");
+        windowLabel.setManaged(false);
+        windowLabel.setVisible(false);
+        windowLabel.setTooltip(new Tooltip(
+                "Ctrl+Page Up / Ctrl+Page Down: previous / next rows. Home / End: first / last person."));
+        personListView = styled(new ListView<>(), "personListView");
+        VBox.setVgrow(personListView, Priority.ALWAYS);
+        return new VBox(windowLabel, personListView);
+    }
 }
@@ -2,27 +2,101 @@ package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
+
+import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
+import javafx.geometry.Pos;
+import javafx.scene.control.Hyperlink;
+import javafx.scene.control.ListView;
 import javafx.scene.control.TextArea;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
 
 /**
  * A ui for the status bar that is displayed at the header of the application.
+ * Long feedback is cut short, and the items a result is about are only shown when asked for, in a list that is
+ * built on first use and only creates cells for the rows on screen.
  */
 public class ResultDisplay extends UiPart<Region> {
 
+    static final int MAX_FEEDBACK_LENGTH = 5000;
+    static final String TRUNCATED_SUFFIX = "\n...";
+
     private static final String FXML = "ResultDisplay.fxml";
+    private static final String SHOW_DETAILS_TEXT = "Show all %1$d";
+    private static final String HIDE_DETAILS_TEXT = "Hide";
+
+    private List<String> details = List.of();
+    private ListView<String> detailsList;
+
+    @FXML
+    private StackPane placeHolder;
 
     @FXML
     private TextArea resultDisplay;
 
+    @FXML
+    private Hyperlink detailsToggle;
+
     public ResultDisplay() {
         super(FXML);
     }
 
     public void setFeedbackToUser(String feedbackToUser) {
+        setFeedbackToUser(feedbackToUser, List.of());
+    }
+
+    /**
+     * Shows {@code feedbackToUser}, with a link to list {@code details} in full if there are any.
+     */
+    public void setFeedbackToUser(String feedbackToUser, List<String> details) {
         requireNonNull(feedbackToUser);
-        resultDisplay.setText(feedbackToUser);
+        requireNonNull(details);
+        resultDisplay.setText(truncate(feedbackToUser));
+        this.details = details;
+        showDetails(false);
     }
 
+    /**
+     * Returns {@code feedback} cut to at most {@link #MAX_FEEDBACK_LENGTH} characters, marking where it was cut.
+     */
+    static String truncate(String feedback) {
+        if (feedback.length() <= MAX_FEEDBACK_LENGTH) {
+            return feedback;
+        }
+        return feedback.substring(0, MAX_FEEDBACK_LENGTH - TRUNCATED_SUFFIX.length()) + TRUNCATED_SUFFIX;
+    }
+
+    @FXML
+    private void handleToggleDetails() {
+        showDetails(detailsList == null || !detailsList.isVisible());
+    }
+
+    private void showDetails(boolean isShown) {
+        detailsToggle.setVisible(!details.isEmpty());
+        detailsToggle.setText(isShown ? HIDE_DETAILS_TEXT : String.format(SHOW_DETAILS_TEXT, details.size()));
+        if (isShown && detailsList == null) {
+            detailsList = styled(new ListView<>(), "resultDetails", "result-details");
+            placeHolder.getChildren().add(1, detailsList);
+        }
+        if (detailsList != null) {
+            // wrapping rather than copying keeps showing the list O(1) however long it is
+            detailsList.setItems(isShown ? FXCollections.observableList(details) : null);
+            detailsList.setVisible(isShown);
+        }
+        resultDisplay.setVisible(!isShown);
+    }
+
+    @Override
+    protected Region buildRoot(Region givenRoot) {
+        resultDisplay = styled(new TextArea(), "resultDisplay", "result-display");
+        resultDisplay.setEditable(false);
+        detailsToggle = styled(new Hyperlink(), "detailsToggle", "result-details-toggle");
+        detailsToggle.setVisible(false);
+        detailsToggle.setOnAction(event -> handleToggleDetails());
+        StackPane.setAlignment(detailsToggle, Pos.BOTTOM_RIGHT);
+        placeHolder = styled(new StackPane(resultDisplay, detailsToggle), "placeHolder", "pane-with-border");
+        return placeHolder;
+    }
 }
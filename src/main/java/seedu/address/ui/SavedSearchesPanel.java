@@ -0,0 +1,55 @@
+package seedu.address.ui;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import seedu.address.model.query.SavedSearch;
+
+/**
+ * A UI component that lists the saved searches with the live number of persons matching each.
+ */
+public class SavedSearchesPanel extends UiPart<Region> {
+
+    private static final String FXML = "SavedSearchesPanel.fxml";
+
+    @FXML
+    private Label emptyLabel;
+
+    @FXML
+    private VBox searchList;
+
+    /**
+     * Creates a {@code SavedSearchesPanel} showing {@code savedSearches}.
+     * The panel will automatically update when searches are saved or deleted and when their counts change.
+     *
+     * @param savedSearches The saved searches to display.
+     */
+    public SavedSearchesPanel(ObservableList<SavedSearch> savedSearches) {
+        super(FXML);
+
+        showSearches(savedSearches);
+        savedSearches.addListener((ListChangeListener<SavedSearch>) change -> showSearches(savedSearches));
+    }
+
+    private void showSearches(ObservableList<SavedSearch> savedSearches) {
+        searchList.getChildren().clear();
+        for (SavedSearch search : savedSearches) {
+            Label label = new Label();
+            label.getStyleClass().add("saved-search-label");
+            label.textProperty().bind(search.countProperty().asString(search.getName() + " (%d)"));
+            searchList.getChildren().add(label);
+        }
+        emptyLabel.setVisible(savedSearches.isEmpty());
+        emptyLabel.setManaged(savedSearches.isEmpty());
+    }
+
+    @Override
+    protected Region buildRoot(Region givenRoot) {
+        emptyLabel = styled(new Label("No saved searches"), "emptyLabel", "placeholder-text");
+        searchList = styled(new VBox(4), "searchList");
+        return styled(new VBox(4, emptyLabel, searchList), null, "saved-searches-panel");
+    }
+}
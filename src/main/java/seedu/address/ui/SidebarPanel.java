@@ -1,14 +1,20 @@
 package seedu.address.ui;
 
 import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Insets;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
 import seedu.address.model.StatusViewState;
 import seedu.address.model.TagsViewState;
+import seedu.address.model.query.SavedSearch;
 
 /**
- * Panel containing the sidebar with status and tags sections.
+ * Panel containing the sidebar with status, tags and saved searches sections.
  */
 public class SidebarPanel extends UiPart<Region> {
     private static final String FXML = "SidebarPanel.fxml";
@@ -19,14 +25,19 @@ public class SidebarPanel extends UiPart<Region> {
     @FXML
     private StackPane tagsSectionPlaceholder;
 
+    @FXML
+    private StackPane savedSearchesSectionPlaceholder;
+
     /**
      * Creates a {@code SidebarPanel} with the given view state properties.
      *
      * @param statusViewStateProperty The property containing the current status view state.
      * @param tagsViewStateProperty The property containing the current tags view state.
+     * @param savedSearches The saved searches to list.
      */
     public SidebarPanel(ReadOnlyObjectProperty<StatusViewState> statusViewStateProperty,
-                        ReadOnlyObjectProperty<TagsViewState> tagsViewStateProperty) {
+                        ReadOnlyObjectProperty<TagsViewState> tagsViewStateProperty,
+                        ObservableList<SavedSearch> savedSearches) {
         super(FXML);
 
         // Create and add the StatusViewPanel
@@ -38,6 +49,10 @@ public class SidebarPanel extends UiPart<Region> {
         TagsViewPanel tagsViewPanel = new TagsViewPanel(tagsViewStateProperty);
         tagsSectionPlaceholder.getChildren().clear();
         tagsSectionPlaceholder.getChildren().add(tagsViewPanel.getRoot());
+
+        // Create and add the SavedSearchesPanel
+        SavedSearchesPanel savedSearchesPanel = new SavedSearchesPanel(savedSearches);
+        savedSearchesSectionPlaceholder.getChildren().add(savedSearchesPanel.getRoot());
     }
 
     /**
@@ -53,4 +68,34 @@ public class SidebarPanel extends UiPart<Region> {
     public StackPane getTagsSectionPlaceholder() {
         return tagsSectionPlaceholder;
     }
+
+    @Override
+    protected Region buildRoot(Region givenRoot) {
+        statusSectionPlaceholder = styled(new StackPane(), "statusSectionPlaceholder", "sidebar-content");
+        statusSectionPlaceholder.setMinHeight(100);
+        statusSectionPlaceholder.setPrefHeight(100);
+        tagsSectionPlaceholder = styled(new StackPane(), "tagsSectionPlaceholder", "sidebar-content");
+        VBox.setVgrow(tagsSectionPlaceholder, Priority.ALWAYS);
+        savedSearchesSectionPlaceholder = styled(new StackPane(), "savedSearchesSectionPlaceholder",
+                "sidebar-content");
+
+        VBox statusSection = section("Status", statusSectionPlaceholder, Priority.NEVER);
+        VBox.setMargin(statusSection, new Insets(0, 0, 15, 0));
+        VBox tagsSection = section("Selected Tags", tagsSectionPlaceholder, Priority.ALWAYS);
+        VBox.setMargin(tagsSection, new Insets(0, 0, 15, 0));
+        VBox savedSearchesSection = section("Saved Searches", savedSearchesSectionPlaceholder, Priority.NEVER);
+
+        VBox root = styled(new VBox(statusSection, tagsSection, savedSearchesSection), null, "sidebar-panel");
+        root.setMinWidth(200);
+        root.setPrefWidth(200);
+        root.setPadding(new Insets(10));
+        return root;
+    }
+
+    private static VBox section(String header, StackPane content, Priority grow) {
+        VBox section = styled(new VBox(styled(new Label(header), null, "sidebar-header"), content), null,
+                "sidebar-section");
+        VBox.setVgrow(section, grow);
+        return section;
+    }
 }
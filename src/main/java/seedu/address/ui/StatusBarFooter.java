@@ -5,6 +5,9 @@ import java.nio.file.Paths;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
 
 /**
@@ -25,4 +28,15 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    @Override
+    protected Region buildRoot(Region givenRoot) {
+        saveLocationStatus = styled(new Label(), "saveLocationStatus");
+        ColumnConstraints column = new ColumnConstraints();
+        column.setHgrow(Priority.SOMETIMES);
+        column.setMinWidth(10);
+        GridPane root = styled(new GridPane(), null, "status-bar");
+        root.getColumnConstraints().add(column);
+        root.getChildren().add(saveLocationStatus);
+        return root;
+    }
 }
@@ -2,8 +2,11 @@ package seedu.address.ui;
 
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.fxml.FXML;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
 import seedu.address.model.StatusViewState;
 
 /**
@@ -33,5 +36,14 @@ public class StatusViewPanel extends UiPart<Region> {
             statusLabel.setText(newValue.getDisplayText());
         });
     }
-}
 
+    @Override
+    protected Region buildRoot(Region givenRoot) {
+        statusLabel = styled(new Label(), "statusLabel", "status-label");
+        statusLabel.setWrapText(true);
+        VBox root = styled(new VBox(statusLabel), null, "status-view-panel");
+        root.setAlignment(Pos.CENTER);
+        root.setPadding(new Insets(10));
+        return root;
+    }
+}
@@ -2,8 +2,11 @@ package seedu.address.ui;
 
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.fxml.FXML;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
 import seedu.address.model.TagsViewState;
 
 /**
@@ -33,5 +36,14 @@ public class TagsViewPanel extends UiPart<Region> {
             tagsLabel.setText(newValue.getDisplayText());
         });
     }
-}
 
+    @Override
+    protected Region buildRoot(Region givenRoot) {
+        tagsLabel = styled(new Label(), "tagsLabel", "tags-label");
+        tagsLabel.setWrapText(true);
+        VBox root = styled(new VBox(tagsLabel), null, "tags-view-panel");
+        root.setAlignment(Pos.CENTER);
+        root.setPadding(new Insets(10));
+        return root;
+    }
+}
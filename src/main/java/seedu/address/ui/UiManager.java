@@ -1,12 +1,24 @@
 package seedu.address.ui;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
 import javafx.scene.control.Alert;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.control.MenuBar;
+import javafx.scene.control.TextArea;
+import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
+import javafx.scene.layout.FlowPane;
 import javafx.stage.Stage;
 import seedu.address.MainApp;
+import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
@@ -17,20 +29,54 @@ import seedu.address.logic.Logic;
 public class UiManager implements Ui {
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
+    private static final List<String> FIRST_FRAME_FXML_FILES = List.of("MainWindow.fxml", "CommandBox.fxml",
+            "ResultDisplay.fxml", "PersonListPanel.fxml", "PersonListCard.fxml", "SidebarPanel.fxml",
+            "StatusBarFooter.fxml");
 
     private Logic logic;
+    private Config config;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, enabling the optional UI features turned on in
+     * {@code config}.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, Config config) {
         this.logic = logic;
+        this.config = config;
+    }
+
+    /**
+     * Loads and initialises the classes of the parts shown in the first frame, and of the controls they are made of,
+     * and reads their FXML files, so that building the main window finds them ready. Only classes are initialised
+     * and no JavaFX objects are created, so this can safely run on any thread while the data is being read.
+     */
+    public static void preloadParts() {
+        List<Class<?>> classes = List.of(MainWindow.class, CommandBox.class, ResultDisplay.class,
+                PersonListPanel.class, PersonCard.class, SidebarPanel.class, StatusBarFooter.class, FXMLLoader.class,
+                ListView.class, Label.class, TextField.class, TextArea.class, MenuBar.class, FlowPane.class);
+        for (Class<?> preloaded : classes) {
+            try {
+                // naming a class only loads it, while forName also runs its static initialisers
+                Class.forName(preloaded.getName(), true, preloaded.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                throw new AssertionError(e);
+            }
+        }
+        logger.fine("Preloaded " + classes.size() + " UI classes");
+        for (String fxmlFileName : FIRST_FRAME_FXML_FILES) {
+            try (InputStream fxml = MainApp.class.getResourceAsStream(UiPart.FXML_FILE_FOLDER + fxmlFileName)) {
+                fxml.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
     }
 
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting UI...");
+        long startNanos = System.nanoTime();
 
         //Set the application icon.
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
@@ -39,6 +85,13 @@ public class UiManager implements Ui {
             mainWindow = new MainWindow(primaryStage, logic);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            FirstFrameTimer.watch(primaryStage.getScene(), startNanos);
+            if (config.isUiPrewarmed()) {
+                mainWindow.prewarmSecondaryParts();
+            }
+            if (config.isLiveFindEnabled()) {
+                mainWindow.enableLiveFind();
+            }
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -6,25 +6,30 @@ import java.io.IOException;
 import java.net.URL;
 
 import javafx.fxml.FXMLLoader;
+import javafx.scene.Node;
 import seedu.address.MainApp;
 
 /**
  * Represents a distinct part of the UI. e.g. Windows, dialogs, panels, status bars, etc.
  * It contains a scene graph with a root node of type {@code T}.
+ * The scene graph is normally loaded from an FXML file. When building in code is enabled, parts that override
+ * {@link #buildRoot} construct it directly instead, which avoids parsing FXML and reflective injection at startup.
  */
 public abstract class UiPart<T> {
 
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
-    private final FXMLLoader fxmlLoader = new FXMLLoader();
+    private static volatile boolean isBuiltInCode;
+
+    private T root;
 
     /**
      * Constructs a UiPart with the specified FXML file URL.
      * The FXML file must not specify the {@code fx:controller} attribute.
      */
     public UiPart(URL fxmlFileUrl) {
-        loadFxmlFile(fxmlFileUrl, null);
+        initRoot(fxmlFileUrl, null);
     }
 
     /**
@@ -40,7 +45,7 @@ public abstract class UiPart<T> {
      * The FXML file must not specify the {@code fx:controller} attribute.
      */
     public UiPart(URL fxmlFileUrl, T root) {
-        loadFxmlFile(fxmlFileUrl, root);
+        initRoot(fxmlFileUrl, root);
     }
 
     /**
@@ -55,24 +60,78 @@ public abstract class UiPart<T> {
      * Returns the root object of the scene graph of this UiPart.
      */
     public T getRoot() {
-        return fxmlLoader.getRoot();
+        return root;
+    }
+
+    /**
+     * Sets whether parts that can build their scene graph in code should do so instead of loading their FXML file.
+     * Only affects parts created afterwards.
+     */
+    public static void setBuiltInCode(boolean builtInCode) {
+        isBuiltInCode = builtInCode;
+    }
+
+    public static boolean isBuiltInCode() {
+        return isBuiltInCode;
+    }
+
+    /**
+     * Builds the same scene graph as this part's FXML file and assigns the {@code @FXML} fields, or returns null
+     * if this part can only be loaded from FXML.
+     * Like FXML injection, this is called from the constructor before the subclass's own fields are initialised,
+     * so it must only touch the {@code @FXML} fields.
+     *
+     * @param givenRoot The root passed to the constructor, to be filled in, or null if the part creates its own.
+     */
+    protected T buildRoot(T givenRoot) {
+        return null;
+    }
+
+    /**
+     * Gives {@code node} the id {@code fxId}, as FXML does for an {@code fx:id}, adds {@code styleClasses} to it
+     * and returns it.
+     */
+    protected static <N extends Node> N styled(N node, String fxId, String... styleClasses) {
+        node.setId(fxId);
+        node.getStyleClass().addAll(styleClasses);
+        return node;
+    }
+
+    /**
+     * Returns the URL of the stylesheet {@code cssFileName} within {@link #FXML_FILE_FOLDER}.
+     */
+    protected static String getStylesheetUrl(String cssFileName) {
+        return getFxmlFileUrl(cssFileName).toExternalForm();
+    }
+
+    private void initRoot(URL location, T givenRoot) {
+        requireNonNull(location);
+        if (isBuiltInCode) {
+            T builtRoot = buildRoot(givenRoot);
+            if (builtRoot != null) {
+                root = builtRoot;
+                return;
+            }
+        }
+        loadFxmlFile(location, givenRoot);
     }
 
     /**
      * Loads the object hierarchy from a FXML document.
      * @param location Location of the FXML document.
-     * @param root Specifies the root of the object hierarchy.
+     * @param givenRoot Specifies the root of the object hierarchy.
      */
-    private void loadFxmlFile(URL location, T root) {
-        requireNonNull(location);
+    private void loadFxmlFile(URL location, T givenRoot) {
+        FXMLLoader fxmlLoader = new FXMLLoader();
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
-        fxmlLoader.setRoot(root);
+        fxmlLoader.setRoot(givenRoot);
         try {
             fxmlLoader.load();
         } catch (IOException e) {
             throw new AssertionError(e);
         }
+        root = fxmlLoader.getRoot();
     }
 
     /**
@@ -0,0 +1,88 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupPipelineTest {
+
+    @Test
+    public void submit_independentStages_runConcurrently() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        try (StartupPipeline pipeline = new StartupPipeline()) {
+            CompletableFuture<Boolean> first = pipeline.submit("first", () -> awaitOther(bothStarted));
+            CompletableFuture<Boolean> second = pipeline.submit("second", () -> awaitOther(bothStarted));
+            pipeline.awaitAll();
+            assertTrue(first.get());
+            assertTrue(second.get());
+        }
+    }
+
+    @Test
+    public void run_returnsResultOnCallingThread() {
+        try (StartupPipeline pipeline = new StartupPipeline()) {
+            Thread caller = Thread.currentThread();
+            assertEquals(caller, pipeline.run("stage", Thread::currentThread));
+        }
+    }
+
+    @Test
+    public void awaitAll_stageSubmittedByStage_waitsForIt() {
+        AtomicBoolean isNestedStageDone = new AtomicBoolean();
+        try (StartupPipeline pipeline = new StartupPipeline()) {
+            pipeline.submit("outer", () -> {
+                pipeline.submit("inner", () -> {
+                    sleep(50);
+                    isNestedStageDone.set(true);
+                });
+            });
+            pipeline.awaitAll();
+        }
+        assertTrue(isNestedStageDone.get());
+    }
+
+    @Test
+    public void awaitAll_failedStage_rethrowsFailure() {
+        try (StartupPipeline pipeline = new StartupPipeline()) {
+            pipeline.submit("failing", () -> {
+                throw new IllegalStateException("failed");
+            });
+            assertThrows(IllegalStateException.class, pipeline::awaitAll);
+        }
+    }
+
+    @Test
+    public void awaitAll_failedHeadStart_ignored() {
+        try (StartupPipeline pipeline = new StartupPipeline()) {
+            pipeline.submitHeadStart("failing", () -> {
+                throw new IllegalStateException("failed");
+            });
+            pipeline.awaitAll();
+        }
+    }
+
+    private static boolean awaitOther(CountDownLatch bothStarted) {
+        bothStarted.countDown();
+        try {
+            return bothStarted.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
@@ -101,6 +102,23 @@ public class ConfigUtilTest {
         assertEquals(original, readBack);
     }
 
+    @Test
+    public void saveConfigIfChanged_onlyRewritesChangedConfig() throws DataLoadingException, IOException {
+        Config original = getTypicalConfig();
+        Path configFilePath = tempDir.resolve("TempConfig.json");
+
+        // missing file -> written
+        assertTrue(ConfigUtil.saveConfigIfChanged(original, configFilePath));
+
+        // same config read back -> not written
+        assertFalse(ConfigUtil.saveConfigIfChanged(ConfigUtil.readConfig(configFilePath).get(), configFilePath));
+
+        // changed config -> written
+        original.setLogLevel(Level.FINE);
+        assertTrue(ConfigUtil.saveConfigIfChanged(original, configFilePath));
+        assertEquals(original, ConfigUtil.readConfig(configFilePath).get());
+    }
+
     private void save(Config config, String configFileInTestDataFolder) throws IOException {
         Path configFilePath = addToTestDataPathIfNotNull(configFileInTestDataFolder);
         ConfigUtil.saveConfig(config, configFilePath);
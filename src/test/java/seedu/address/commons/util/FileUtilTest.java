@@ -1,13 +1,21 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path tempDir;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +28,24 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileIfChanged() throws IOException {
+        Path file = tempDir.resolve("file.txt");
+
+        // missing file -> written
+        assertTrue(FileUtil.writeToFileIfChanged(file, "content"));
+        assertEquals("content", FileUtil.readFromFile(file));
+
+        // same content -> not written
+        assertFalse(FileUtil.writeToFileIfChanged(file, "content"));
+
+        // same length, different content -> written
+        assertTrue(FileUtil.writeToFileIfChanged(file, "CONTENT"));
+        assertEquals("CONTENT", FileUtil.readFromFile(file));
+
+        // different length -> written
+        assertTrue(FileUtil.writeToFileIfChanged(file, "longer content"));
+        assertEquals("longer content", FileUtil.readFromFile(file));
+    }
+
 }
@@ -0,0 +1,77 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty_hasNoElements() {
+        PersistentList<String> list = PersistentList.empty();
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+        assertEquals(List.of(), list.asList());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+
+    @Test
+    public void of_keepsOrder() {
+        List<Integer> items = IntStream.range(0, 100).boxed().toList();
+        PersistentList<Integer> list = PersistentList.of(items);
+        assertEquals(items, list.asList());
+        assertEquals(42, list.get(42));
+    }
+
+    @Test
+    public void updates_leaveOriginalUnchanged() {
+        PersistentList<String> original = PersistentList.of(List.of("a", "b", "c"));
+
+        assertEquals(List.of("a", "x", "b", "c"), original.insert(1, "x").asList());
+        assertEquals(List.of("a", "b", "c", "d"), original.add("d").asList());
+        assertEquals(List.of("a", "c"), original.remove(1).asList());
+        assertEquals(List.of("a", "b", "z"), original.set(2, "z").asList());
+        assertEquals(List.of("a", "b", "c"), original.asList());
+    }
+
+    @Test
+    public void invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(-1, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.insert(2, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(1));
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        Random random = new Random(31);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 2000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.insert(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.set(index, i);
+            }
+        }
+        assertEquals(expected, actual.asList());
+        assertEquals(expected.size(), actual.size());
+    }
+}
@@ -1,26 +1,50 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
-
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.ProgressListener;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.TemplateCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -28,6 +52,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.FindResult;
 import seedu.address.model.tag.Tag;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
@@ -47,6 +72,7 @@ public class LogicManagerTest {
 
     private Model model = new ModelManager();
     private Logic logic;
+    private StorageManager storageManager;
 
     @BeforeEach
     public void setUp() {
@@ -54,8 +80,25 @@ public class LogicManagerTest {
                 new JsonAddressBookStorage(temporaryFolder.resolve(ADDRESS_BOOK_FILE));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve(USER_PREFS_FILE));
         TemplateStorageManager templateStorage = new TemplateStorageManager(temporaryFolder.resolve("templates"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, templateStorage);
-        logic = new LogicManager(model, storage);
+        storageManager = new StorageManager(addressBookStorage, userPrefsStorage, templateStorage);
+        logic = new LogicManager(model, storageManager);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        // saves run in the background and must not outlive the temporary folder
+        logic.flushSaves();
+    }
+
+    @Test
+    public void execute_savedSearchChanged_savesUserPrefs() throws Exception {
+        logic.execute(SearchCommand.COMMAND_WORD + " save friends t:friends");
+        logic.flushSaves();
+        assertEquals(Map.of("friends", "t:friends"), storageManager.readUserPrefs().get().getSavedSearches());
+
+        logic.execute(SearchCommand.COMMAND_WORD + " delete friends");
+        logic.flushSaves();
+        assertEquals(Map.of(), storageManager.readUserPrefs().get().getSavedSearches());
     }
 
     @Test
@@ -79,17 +122,178 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_displayExecutor_changesModelOnlyOnIt() throws Exception {
+        ExecutorService display = Executors.newSingleThreadExecutor();
+        try {
+            Thread displayThread = display.submit(Thread::currentThread).get();
+            List<Thread> changeThreads = new ArrayList<>();
+            model.getFilteredPersonList().addListener((ListChangeListener<Person>) change ->
+                    changeThreads.add(Thread.currentThread()));
+            Logic displayLogic = new LogicManager(model, storageManager, display);
+
+            displayLogic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                    + ADDRESS_DESC_AMY);
+            displayLogic.execute(FindCommand.COMMAND_WORD + " Bob");
+            assertFalse(changeThreads.isEmpty());
+            assertTrue(changeThreads.stream().allMatch(thread -> thread == displayThread));
+
+            // failures are rethrown to the caller
+            assertThrows(CommandException.class, () -> displayLogic.execute("delete 9"));
+            displayLogic.flushSaves();
+        } finally {
+            display.shutdownNow();
+        }
+    }
+
+    @Test
+    public void execute_undoAfterClear_restoresAddressBook() throws Exception {
+        model.setAddressBook(getTypicalAddressBook());
+        model.commitAddressBook();
+        logic.execute(ClearCommand.COMMAND_WORD);
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsSaveFailure() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_displayOnlyCommand_doesNotSave() throws Exception {
+        useStorageThrowing(DUMMY_IO_EXCEPTION);
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_concurrentReadersAndWriter_allCommandsApplied() throws Exception {
+        int personCount = 50;
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            results.add(pool.submit(() -> {
+                for (int i = 0; i < personCount; i++) {
+                    logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + " " + PREFIX_PHONE + (90000000 + i)
+                            + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+                }
+                return null;
+            }));
+            for (int reader = 0; reader < 3; reader++) {
+                results.add(pool.submit(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        logic.execute(FindCommand.COMMAND_WORD + " Amy");
+                        logic.execute(ListCommand.COMMAND_WORD);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(personCount, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_concurrentReadOnlyCommands_readAtTheSameTime() throws Exception {
+        CyclicBarrier bothReading = new CyclicBarrier(2);
+        Model meetingModel = new ModelManager() {
+            @Override
+            public FindResult evaluateFind(Predicate<Person> predicate) {
+                try {
+                    // only passes if the other find is reading too
+                    bothReading.await(5, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                return super.evaluateFind(predicate);
+            }
+        };
+        Logic meetingLogic = new LogicManager(meetingModel, storageManager);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<CommandResult>> results = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                results.add(pool.submit(() -> meetingLogic.execute(FindCommand.COMMAND_WORD + " Amy")));
+            }
+            for (Future<CommandResult> result : results) {
+                assertEquals(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 0),
+                        result.get().getFeedbackToUser());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void executeAsync_readOnlyCommand_readsOffDisplayThread() throws Exception {
+        ExecutorService display = Executors.newSingleThreadExecutor();
+        try {
+            Thread displayThread = display.submit(Thread::currentThread).get();
+            List<Thread> readThreads = new ArrayList<>();
+            Model recordingModel = new ModelManager() {
+                @Override
+                public FindResult evaluateFind(Predicate<Person> predicate) {
+                    readThreads.add(Thread.currentThread());
+                    return super.evaluateFind(predicate);
+                }
+            };
+            recordingModel.addPerson(AMY);
+            List<Thread> changeThreads = new ArrayList<>();
+            recordingModel.getFilteredPersonList().addListener((ListChangeListener<Person>) change ->
+                    changeThreads.add(Thread.currentThread()));
+            Logic displayLogic = new LogicManager(recordingModel, storageManager, display);
+
+            CommandResult result = displayLogic.executeAsync(FindCommand.COMMAND_WORD + " Bob").get();
+            assertEquals(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 0), result.getFeedbackToUser());
+            assertEquals(1, readThreads.size());
+            assertNotSame(displayThread, readThreads.get(0));
+            assertEquals(List.of(displayThread), changeThreads);
+
+            // a failure while reading fails the future
+            // templates cannot be created where a file is in the way
+            Files.writeString(temporaryFolder.resolve("templates"), "");
+            Throwable failure = displayLogic.executeAsync(TemplateCommand.COMMAND_WORD + " copy s:contacted")
+                    .handle((unused, e) -> e).get();
+            assertTrue(failure.getCause() instanceof CommandException);
+        } finally {
+            display.shutdownNow();
+        }
+    }
+
+    @Test
+    public void evaluateFind_validArguments_doesNotFilterUntilPreviewed() throws Exception {
+        model.addPerson(AMY);
+        Person other = new PersonBuilder().withName("Bob").withPhone("91234567").build();
+        model.addPerson(other);
+
+        FindResult result = logic.evaluateFind(" Amy");
+        assertEquals(List.of(AMY, other), logic.getFilteredPersonList());
+
+        logic.previewFind(result);
+        assertEquals(List.of(AMY), logic.getFilteredPersonList());
+        assertSame(result.getFilter(), model.getFilteredPersonListPredicate());
+
+        logic.endFindPreview();
+        assertEquals(List.of(AMY, other), logic.getFilteredPersonList());
+    }
+
+    @Test
+    public void evaluateFind_invalidArguments_throwsParseException() {
+        assertThrows(ParseException.class, () -> logic.evaluateFind(" "));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -150,11 +354,35 @@ public class LogicManagerTest {
 
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * The command itself succeeds, and the failure is reported once the background save fails.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be reported by the Logic component
+     */
+    private void assertSaveFailureForExceptionFromStorage(IOException e, String expectedMessage)
+            throws Exception {
+        useStorageThrowing(e);
+        List<String> reported = new ArrayList<>();
+        logic.setSaveFailureHandler(reported::add);
+
+        // Triggers the saveAddressBook method by executing an add command
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        Person expectedPerson = new PersonBuilder(AMY).withTags().build();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(expectedPerson);
+        logic.execute(addCommand);
+        logic.flushSaves();
+
+        assertEquals(expectedModel, model);
+        assertEquals(List.of(expectedMessage), reported);
+    }
+
+    /**
+     * Replaces {@code logic} with one whose Storage component throws {@code e} when saving the address book.
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void useStorageThrowing(IOException e) {
+        logic.flushSaves();
         Path prefPath = temporaryFolder.resolve(EXCEPTION_USER_PREFS_FILE);
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -172,14 +400,6 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, templateStorage);
 
         logic = new LogicManager(model, storage);
-
-        // Triggers the saveAddressBook method by executing an add command
-        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
-                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
-        Person expectedPerson = new PersonBuilder(AMY).withTags().build();
-        ModelManager expectedModel = new ModelManager();
-        expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
     @Test
@@ -206,6 +426,37 @@ public class LogicManagerTest {
         assertTrue(currentPerson.getTags().contains(new Tag("friends")));
     }
 
+    @Test
+    public void readImportedAddressBook_validJson_leavesModelUnchanged() throws Exception {
+        String validJson = "{\"persons\": [{\"name\": \"Alice Pauline\", \"phone\": \"94351253\","
+                + " \"email\": \"alice@example.com\", \"address\": \"little india\", \"tags\": []}]}";
+
+        ReadOnlyAddressBook imported = logic.readImportedAddressBook(validJson, ProgressListener.NONE);
+        assertEquals(1, imported.getPersonList().size());
+        assertEquals(0, model.getFilteredPersonList().size());
+        assertEquals(1, logic.countImportedPersons(validJson));
+
+        logic.importAddressBook(imported);
+        assertEquals(imported.getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void importAddressBook_saveFails_replacesDataAndFailsFuture() throws Exception {
+        useStorageThrowing(DUMMY_IO_EXCEPTION);
+        List<String> reported = new ArrayList<>();
+        logic.setSaveFailureHandler(reported::add);
+        ReadOnlyAddressBook imported = getTypicalAddressBook();
+
+        CompletableFuture<Void> saved = logic.importAddressBook(imported);
+        assertEquals(imported.getPersonList(), model.getFilteredPersonList());
+
+        Throwable failure = saved.handle((unused, e) -> e).get(5, TimeUnit.SECONDS);
+        assertSame(DUMMY_IO_EXCEPTION, failure.getCause());
+        logic.flushSaves();
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage())),
+                reported);
+    }
+
     @Test
     public void importJsonString_invalidJson_throwsException() {
         String invalidJson = "{ not valid json }";
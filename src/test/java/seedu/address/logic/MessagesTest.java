@@ -0,0 +1,38 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class MessagesTest {
+
+    @Test
+    public void formatAll_formatsEachPerson() {
+        List<String> formatted = Messages.formatAll(List.of(ALICE, BENSON));
+        assertEquals(List.of(Messages.format(ALICE), Messages.format(BENSON)), formatted);
+    }
+
+    @Test
+    public void formatPreview_fewLines_listsAll() {
+        assertEquals("- a\n- b", Messages.formatPreview(List.of("a", "b")));
+        assertEquals("", Messages.formatPreview(List.of()));
+    }
+
+    @Test
+    public void formatPreview_manyLines_countsTheRest() {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < Messages.PREVIEW_LIMIT + 5; i++) {
+            lines.add("line " + i);
+        }
+        String preview = Messages.formatPreview(lines);
+
+        assertEquals(Messages.PREVIEW_LIMIT + 1, preview.split("\n").length);
+        assertEquals("- line 0", preview.split("\n")[0]);
+        assertEquals(String.format(Messages.MESSAGE_MORE_ITEMS, 5), preview.split("\n")[Messages.PREVIEW_LIMIT]);
+    }
+}
@@ -20,13 +20,18 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.StatusViewState;
 import seedu.address.model.TagsViewState;
 import seedu.address.model.TemplateViewState;
+import seedu.address.model.event.ChangeFeed;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.FindResult;
+import seedu.address.model.query.ListFilter;
+import seedu.address.model.query.SavedSearch;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -195,6 +200,41 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public AddressBookSnapshot getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ChangeFeed getChangeFeed() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -205,6 +245,56 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<Person> getFilteredPersonListPredicate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public FindResult evaluateFind(Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showFind(FindResult result) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ListFilter getListFilter() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setListFilter(ListFilter filter) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasSavedSearch(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SavedSearch addSavedSearch(String name, String query, Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteSavedSearch(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showSavedSearch(String name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<SavedSearch> getSavedSearchList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyObjectProperty<StatusViewState> getStatusViewStateProperty() {
             throw new AssertionError("This method should not be called.");
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class CommandResultTest {
@@ -37,6 +39,10 @@ public class CommandResultTest {
 
         // different showTemplate value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, false, true)));
+
+        // different details -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback", List.of("item"))));
+        assertTrue(commandResult.equals(new CommandResult("feedback", List.of())));
     }
 
     @Test
@@ -128,8 +128,10 @@ public class DeleteCommandTest {
                         + Messages.format(secondPerson)
                         + "\n- "
                         + Messages.format(firstPerson));
+        CommandResult expectedResult = new CommandResult(expectedMessage,
+                List.of(Messages.format(secondPerson), Messages.format(firstPerson)));
 
-        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+        assertCommandSuccess(deleteCommand, model, expectedResult, expectedModel);
     }
 
     @Test
@@ -239,8 +241,10 @@ public class DeleteCommandTest {
 
         String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, 2,
                 "- " + Messages.format(thirdPerson) + "\n- " + Messages.format(firstPerson));
+        CommandResult expectedResult = new CommandResult(expectedMessage,
+                List.of(Messages.format(thirdPerson), Messages.format(firstPerson)));
 
-        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+        assertCommandSuccess(deleteCommand, model, expectedResult, expectedModel);
     }
 
     @Test
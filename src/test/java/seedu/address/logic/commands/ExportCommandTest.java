@@ -1,49 +1,39 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
-
-import java.nio.file.Path;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.clipboard.ClipboardProvider;
-import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookUtil;
 
 public class ExportCommandTest {
 
     @Test
-    public void execute_fileMissing_throws() {
-        Model model = new ModelManager();
-        model.setUserPrefs(new UserPrefs());
-        model.setAddressBookFilePath(Path.of("fakefile.json"));
+    public void execute_copiesAddressBookJsonToClipboard() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        FakeClipboard fake = new FakeClipboard();
+        CommandResult result = new ExportCommand(fake).execute(model);
 
-        FakeFileSystem fs = new FakeFileSystem();
-        fs.exists = false;
-        ExportCommand cmd = new ExportCommand(new FakeClipboard(), fs);
-        assertThrows(CommandException.class, () -> cmd.execute(model));
+        assertEquals(ExportCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertEquals(getTypicalAddressBook(), JsonAddressBookUtil.readAddressBookFromJsonString(fake.getString()));
     }
 
     @Test
-    public void execute_validFileCopiesToClipboard() throws Exception {
-        Model model = new ModelManager();
-        model.setUserPrefs(new UserPrefs());
-        model.setAddressBookFilePath(Path.of("addressbook.json"));
-
-        String json = "{\n  \"persons\": []\n}";
-        FakeFileSystem fs = new FakeFileSystem();
-        fs.exists = true;
-        fs.fileContent = json;
-
+    public void prepare_changeAfterReading_exportsBookAsRead() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
         FakeClipboard fake = new FakeClipboard();
-        ExportCommand cmd = new ExportCommand(fake, fs);
-        CommandResult result = cmd.execute(model);
+        Command.Display display = new ExportCommand(fake).prepare(model);
 
-        assertEquals("Copied address book data to clipboard.", result.getFeedbackToUser());
-        assertEquals(json, fake.getString());
+        model.addPerson(AMY);
+        display.show(model);
+        assertEquals(getTypicalAddressBook(), JsonAddressBookUtil.readAddressBookFromJsonString(fake.getString()));
     }
 
     private static class FakeClipboard implements ClipboardProvider {
@@ -59,21 +49,4 @@ public class ExportCommandTest {
             value = v;
         }
     }
-
-    private static class FakeFileSystem implements seedu.address.logic.files.FileSystemProvider {
-        private String fileContent;
-        private boolean exists = true;
-
-        @Override
-        public boolean exists(Path path) {
-            return exists;
-        }
-
-        @Override
-        public String readFile(Path path) {
-            return fileContent;
-        }
-    }
 }
-
-
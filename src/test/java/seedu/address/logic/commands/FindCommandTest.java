@@ -52,6 +52,9 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different explain flag -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate, true)));
     }
 
     @Test
@@ -122,6 +125,17 @@ public class FindCommandTest {
         assertEquals(Collections.emptyList(), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_explain_describesPlan() throws Exception {
+        NameContainsKeywordsPredicate predicate = preparePredicate("Kurz");
+        CommandResult result = new FindCommand(predicate, true).execute(model);
+        expectedModel.updateFilteredPersonList(predicate);
+
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1)));
+        assertTrue(result.getFeedbackToUser().contains("Query plan: INDEX"));
+        assertEquals(expectedModel, model);
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
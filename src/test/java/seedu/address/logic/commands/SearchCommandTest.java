@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.PersonMatchesKeywordsPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+
+    private static final PersonMatchesKeywordsPredicate FRIENDS =
+            new PersonMatchesKeywordsPredicate(List.of(), List.of("friends"), null, null, null);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_save_addsSavedSearchToPrefs() {
+        expectedModel.addSavedSearch("friends", "t:friends", FRIENDS);
+        assertCommandSuccess(new SearchCommand("friends", "t:friends", FRIENDS), model,
+                String.format(SearchCommand.MESSAGE_SAVE_SUCCESS, "friends", 3), expectedModel);
+        assertEquals(Map.of("friends", "t:friends"), model.getUserPrefs().getSavedSearches());
+        assertEquals(1, model.getSavedSearchList().size());
+    }
+
+    @Test
+    public void execute_show_filtersToSavedSearch() {
+        model.addSavedSearch("friends", "t:friends", FRIENDS);
+        expectedModel.addSavedSearch("friends", "t:friends", FRIENDS);
+        expectedModel.updateFilteredPersonList(FRIENDS);
+
+        String expectedMessage = String.format(SearchCommand.MESSAGE_SHOW_SUCCESS, "friends",
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 3));
+        assertCommandSuccess(new SearchCommand("friends"), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_delete_removesSavedSearch() {
+        model.addSavedSearch("friends", "t:friends", FRIENDS);
+        assertCommandSuccess(SearchCommand.delete("friends"), model,
+                String.format(SearchCommand.MESSAGE_DELETE_SUCCESS, "friends"), expectedModel);
+        assertFalse(model.hasSavedSearch("friends"));
+        assertTrue(model.getUserPrefs().getSavedSearches().isEmpty());
+    }
+
+    @Test
+    public void execute_unknownSearch_throwsCommandException() {
+        String expectedMessage = String.format(SearchCommand.MESSAGE_UNKNOWN_SEARCH, "missing");
+        assertCommandFailure(new SearchCommand("missing"), model, expectedMessage);
+        assertCommandFailure(SearchCommand.delete("missing"), model, expectedMessage);
+    }
+
+    @Test
+    public void equals() {
+        SearchCommand saveCommand = new SearchCommand("friends", "t:friends", FRIENDS);
+        SearchCommand showCommand = new SearchCommand("friends");
+
+        assertTrue(saveCommand.equals(saveCommand));
+        assertTrue(saveCommand.equals(new SearchCommand("friends", "t:friends", FRIENDS)));
+        assertTrue(showCommand.equals(new SearchCommand("friends")));
+        assertFalse(saveCommand.equals(showCommand));
+        assertFalse(showCommand.equals(SearchCommand.delete("friends")));
+        assertFalse(showCommand.equals(new SearchCommand("others")));
+        assertFalse(showCommand.equals(null));
+        assertFalse(showCommand.equals(1));
+    }
+}
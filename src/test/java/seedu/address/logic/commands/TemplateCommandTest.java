@@ -222,6 +222,14 @@ public class TemplateCommandTest {
         assertThrows(NullPointerException.class, () -> new TemplateCommand(Status.CONTACTED, null, clipboardStub));
     }
 
+    @Test
+    public void isReadOnly_onlyCopyAction_returnsTrue() {
+        StorageStub storageStub = new StorageStub();
+        assertTrue(new TemplateCommand(Status.CONTACTED, storageStub, new ClipboardStub()).isReadOnly());
+        assertFalse(new TemplateCommand(Status.CONTACTED, storageStub).isReadOnly());
+        assertFalse(new TemplateCommand(storageStub).isReadOnly());
+    }
+
     @Test
     public void constructor_copyNullClipboard_throwsNullPointerException() {
         StorageStub storageStub = new StorageStub();
@@ -34,6 +34,28 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_explainKeyword_returnsExplainingFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(
+                new PersonMatchesKeywordsPredicate(List.of(), Arrays.asList("colleague"), null, null, null), true);
+        assertParseSuccess(parser, " EXPLAIN t:colleague", expectedFindCommand);
+
+        // explain on its own is still a name keyword
+        assertParseSuccess(parser, "explain",
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("explain"))));
+    }
+
+    @Test
+    public void parse_booleanQuery_returnsQueryFindCommand() throws Exception {
+        String query = "(t:vip OR t:partner) AND NOT s:rejected";
+        assertParseSuccess(parser, " q:" + query, new FindCommand(new FindQueryParser().parse(query)));
+        assertParseSuccess(parser, " explain q:" + query, new FindCommand(new FindQueryParser().parse(query), true));
+
+        // operators without the marker are name keywords
+        assertParseSuccess(parser, " Tom AND Jerry",
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Tom", "AND", "Jerry"))));
+    }
+
     @Test
     public void parse_singleKeyword_returnsFindCommand() {
         FindCommand expectedFindCommand = new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
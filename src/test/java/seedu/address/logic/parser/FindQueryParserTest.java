@@ -0,0 +1,79 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.query.AndNode;
+import seedu.address.model.query.NotNode;
+import seedu.address.model.query.OrNode;
+import seedu.address.model.query.PersonIndex;
+import seedu.address.model.query.TermNode;
+
+public class FindQueryParserTest {
+
+    private static final TermNode VIP = new TermNode(PersonIndex.Field.TAG, "vip");
+    private static final TermNode PARTNER = new TermNode(PersonIndex.Field.TAG, "partner");
+    private static final TermNode REJECTED = new TermNode(PersonIndex.Field.STATUS, "rejected");
+    private static final TermNode ACME = new TermNode(PersonIndex.Field.EMAIL, "*@acme.com");
+
+    private final FindQueryParser parser = new FindQueryParser();
+
+    @Test
+    public void isQuery() {
+        assertTrue(FindQueryParser.isQuery("q:t:vip OR t:partner"));
+        assertTrue(FindQueryParser.isQuery(" q:(t:vip)"));
+        assertTrue(FindQueryParser.isQuery("q: NOT s:rejected"));
+        assertFalse(FindQueryParser.isQuery("n:alice t:friends"));
+
+        // operators without the marker are plain keywords
+        assertFalse(FindQueryParser.isQuery("Sandor OR Anders"));
+        assertFalse(FindQueryParser.isQuery("n:Tom AND Jerry"));
+        assertFalse(FindQueryParser.isQuery("t:vip (old)"));
+    }
+
+    @Test
+    public void parse_fullQuery_buildsTree() throws Exception {
+        assertEquals(new AndNode(List.of(new OrNode(List.of(VIP, PARTNER)), new NotNode(REJECTED), ACME)),
+                parser.parse("(t:vip OR t:partner) AND NOT s:rejected AND e:*@acme.com"));
+    }
+
+    @Test
+    public void parse_precedence_andBindsTighterThanOr() throws Exception {
+        assertEquals(new OrNode(List.of(new AndNode(List.of(VIP, REJECTED)), PARTNER)),
+                parser.parse("t:vip AND s:Rejected OR t:partner"));
+
+        // implicit AND between adjacent terms
+        assertEquals(parser.parse("t:vip AND s:Rejected OR t:partner"), parser.parse("t:vip s:Rejected OR t:partner"));
+    }
+
+    @Test
+    public void parse_nestedNot() throws Exception {
+        assertEquals(new NotNode(new NotNode(VIP)), parser.parse("NOT NOT t:VIP"));
+    }
+
+    @Test
+    public void parse_invalidQueries_throwsParseException() {
+        assertFailure("(t:vip OR t:partner", FindQueryParser.MESSAGE_UNBALANCED_PARENTHESES);
+        assertFailure("t:vip) OR t:partner", FindQueryParser.MESSAGE_UNBALANCED_PARENTHESES);
+        assertFailure("t:vip OR", String.format(FindQueryParser.MESSAGE_MISSING_TERM, "OR"));
+        assertFailure("AND t:vip", String.format(FindQueryParser.MESSAGE_MISSING_TERM, ""));
+        assertFailure("alice OR t:vip", String.format(FindQueryParser.MESSAGE_INVALID_TERM, "alice"));
+        assertFailure("x:foo OR t:vip", String.format(FindQueryParser.MESSAGE_INVALID_TERM, "x:foo"));
+        assertFailure("t:#vip OR t:partner", String.format(FindQueryParser.MESSAGE_INVALID_TERM, "t:#vip"));
+        assertFailure("s:sleeping OR t:vip", String.format(FindQueryParser.MESSAGE_INVALID_TERM, "s:sleeping"));
+        assertFailure("n: OR t:vip", String.format(FindQueryParser.MESSAGE_INVALID_TERM, "n:"));
+    }
+
+    private void assertFailure(String query, String message) {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, message), () ->
+                parser.parse(query));
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.model.person.PersonMatchesKeywordsPredicate;
+import seedu.address.model.query.SavedSearch;
+
+public class SearchCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE);
+
+    private final SearchCommandParser parser = new SearchCommandParser();
+
+    @Test
+    public void parse_save_returnsSaveCommand() {
+        SearchCommand expected = new SearchCommand("vips", "t:vip s:uncontacted",
+                new PersonMatchesKeywordsPredicate(List.of(), List.of("vip"), "uncontacted", null, null));
+        assertParseSuccess(parser, " save vips t:vip s:uncontacted", expected);
+        assertParseSuccess(parser, "  SAVE   vips   t:vip s:uncontacted ", expected);
+    }
+
+    @Test
+    public void parse_show_returnsShowCommand() {
+        assertParseSuccess(parser, " vips ", new SearchCommand("vips"));
+    }
+
+    @Test
+    public void parse_delete_returnsDeleteCommand() {
+        assertParseSuccess(parser, " delete vips", SearchCommand.delete("vips"));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " save vips", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " delete", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " vips extra", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " save vip-list t:vip", SavedSearch.MESSAGE_CONSTRAINTS);
+
+        // invalid find criteria
+        assertParseFailure(parser, " save vips q:t:vip OR", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                String.format(FindQueryParser.MESSAGE_MISSING_TERM, "OR")));
+    }
+}
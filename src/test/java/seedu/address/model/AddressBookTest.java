@@ -7,6 +7,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -83,6 +84,29 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getSnapshot_laterChanges_notVisible() {
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot snapshot = addressBook.getSnapshot();
+
+        addressBook.addPerson(BOB);
+        addressBook.removePerson(ALICE);
+
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertTrue(snapshot.getVersion() < addressBook.getVersion());
+        assertEquals(List.of(BOB), addressBook.getSnapshot().getPersonList());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void getSnapshot_equalContents_equal() {
+        AddressBook other = getTypicalAddressBook();
+        assertEquals(getTypicalAddressBook().getSnapshot(), other.getSnapshot());
+        assertEquals(other, new AddressBook(other.getSnapshot()));
+        other.removePerson(ALICE);
+        assertFalse(getTypicalAddressBook().getSnapshot().equals(other.getSnapshot()));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
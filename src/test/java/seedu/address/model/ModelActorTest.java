@@ -0,0 +1,126 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+public class ModelActorTest {
+
+    private final List<Runnable> ownerQueue = new ArrayList<>();
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final ModelActor actor = new ModelActor(model, ownerQueue::add);
+
+    @Test
+    public void submit_runsOnlyOnOwnerExecutor() {
+        CompletableFuture<Void> added = actor.submit(model -> {
+            model.addPerson(AMY);
+            return null;
+        });
+        assertFalse(added.isDone());
+        assertFalse(model.hasPerson(AMY));
+
+        ownerQueue.remove(0).run();
+        assertTrue(added.isDone());
+        assertTrue(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void submit_queuedTasks_runInOneBatch() {
+        List<Integer> changeSizes = new ArrayList<>();
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change ->
+                changeSizes.add(change.getList().size()));
+        List<CompletableFuture<Void>> results = List.of(
+                actor.submit(model -> {
+                    model.addPerson(AMY);
+                    return null;
+                }),
+                actor.submit(model -> {
+                    model.deletePerson(BENSON);
+                    return null;
+                }),
+                actor.submit(model -> {
+                    model.deletePerson(ALICE);
+                    return null;
+                }));
+
+        // the first run of the owner executor does all the work, later ones find nothing queued
+        ownerQueue.remove(0).run();
+        assertTrue(results.stream().allMatch(CompletableFuture::isDone));
+        assertEquals(3, changeSizes.size());
+        ownerQueue.forEach(Runnable::run);
+        assertEquals(3, changeSizes.size());
+    }
+
+    @Test
+    public void submit_failingTask_completesExceptionallyAndLaterTasksStillRun() {
+        CompletableFuture<Void> failed = actor.submit(model -> {
+            model.addPerson(ALICE);
+            return null;
+        });
+        CompletableFuture<Boolean> next = actor.submit(model -> model.hasPerson(BENSON));
+        ownerQueue.remove(0).run();
+
+        CompletionException thrown = assertThrows(CompletionException.class, failed::join);
+        assertTrue(thrown.getCause() instanceof DuplicatePersonException);
+        assertTrue(next.join());
+    }
+
+    @Test
+    public void getSnapshot_publishedAfterEachTask() {
+        AddressBookSnapshot before = actor.getSnapshot();
+        assertEquals(model.getAddressBookSnapshot().getVersion(), before.getVersion());
+
+        actor.submit(model -> {
+            model.addPerson(AMY);
+            return null;
+        });
+        // not published until the task has run
+        assertSame(before, actor.getSnapshot());
+
+        ownerQueue.remove(0).run();
+        assertTrue(actor.getSnapshot().getPersonList().contains(AMY));
+        assertFalse(before.getPersonList().contains(AMY));
+    }
+
+    @Test
+    public void read_whileTaskRuns_waitsForIt() throws Exception {
+        ModelActor threadedActor = new ModelActor(model, runnable -> new Thread(runnable).start());
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> write = threadedActor.submit(model -> {
+            writing.countDown();
+            release.await();
+            model.addPerson(AMY);
+            return null;
+        });
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Boolean> read = CompletableFuture.supplyAsync(() ->
+                threadedActor.read(model -> model.hasPerson(AMY)));
+        Thread.sleep(50);
+        assertFalse(read.isDone());
+
+        release.countDown();
+        write.join();
+        assertTrue(read.get(5, TimeUnit.SECONDS));
+    }
+}
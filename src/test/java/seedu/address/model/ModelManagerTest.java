@@ -7,15 +7,20 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.parser.FindCommandParser;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.query.FindResult;
+import seedu.address.model.query.ListFilter;
 import seedu.address.testutil.AddressBookBuilder;
 
 public class ModelManagerTest {
@@ -72,6 +77,20 @@ public class ModelManagerTest {
         assertEquals(path, modelManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void adopt_addressBook_holdsSamePersonsWithoutHistory() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        ModelManager adopted = ModelManager.adopt(addressBook, new UserPrefs(), FindCommandParser::parseSavedSearch);
+
+        AddressBook expected = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        assertEquals(new ModelManager(expected, new UserPrefs()), adopted);
+        assertEquals(List.of(ALICE, BENSON), adopted.getFilteredPersonList());
+        assertFalse(adopted.canUndoAddressBook());
+
+        adopted.deletePerson(ALICE);
+        assertEquals(List.of(BENSON), adopted.getAddressBookSnapshot().getPersonList());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.hasPerson(null));
@@ -88,11 +107,104 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void getAddressBookSnapshot_unaffectedByLaterChanges() {
+        modelManager.addPerson(ALICE);
+        AddressBookSnapshot snapshot = modelManager.getAddressBookSnapshot();
+        modelManager.deletePerson(ALICE);
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertEquals(List.of(), modelManager.getAddressBookSnapshot().getPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void evaluateFind_nullPredicate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.evaluateFind(null));
+    }
+
+    @Test
+    public void showFind_filtersSameAsUpdateFilteredPersonList() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        ModelManager expectedModelManager = new ModelManager(addressBook, new UserPrefs());
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Alice"));
+        expectedModelManager.updateFilteredPersonList(predicate);
+
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.showFind(modelManager.evaluateFind(predicate));
+        assertEquals(expectedModelManager, modelManager);
+    }
+
+    @Test
+    public void evaluateFind_leavesFilterUnchanged() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Alice"));
+
+        FindResult evaluated = modelManager.evaluateFind(predicate);
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+        assertEquals(PREDICATE_SHOW_ALL_PERSONS, modelManager.getFilteredPersonListPredicate());
+
+        modelManager.showFind(evaluated);
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+        assertEquals(evaluated.getFilter(), modelManager.getFilteredPersonListPredicate());
+    }
+
+    @Test
+    public void showFind_addressBookChangedSinceEvaluated_testsEveryPerson() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Benson"));
+        FindResult evaluated = modelManager.evaluateFind(predicate);
+
+        // the position found no longer holds once a person before the match is deleted
+        modelManager.deletePerson(ALICE);
+        modelManager.showFind(evaluated);
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setListFilter_filterFromGetListFilter_restoresList() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Benson")));
+        ListFilter shown = modelManager.getListFilter();
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.setListFilter(shown);
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+        assertEquals(shown.getFilter(), modelManager.getFilteredPersonListPredicate());
+    }
+
+    @Test
+    public void constructor_savedSearchesInPrefs_restoresValidSearches() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.putSavedSearch("friends", "t:friends");
+        userPrefs.putSavedSearch("broken", "t:#friends");
+        modelManager = new ModelManager(getTypicalAddressBook(), userPrefs, FindCommandParser::parseSavedSearch);
+
+        assertEquals(1, modelManager.getSavedSearchList().size());
+        assertEquals(3, modelManager.getSavedSearchList().get(0).getCount());
+        assertEquals(userPrefs.getSavedSearches(), modelManager.getUserPrefs().getSavedSearches());
+    }
+
+    @Test
+    public void setUserPrefs_differentSavedSearches_replacesSavedSearchList() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs(),
+                FindCommandParser::parseSavedSearch);
+        modelManager.addSavedSearch("old", "t:owesMoney", person -> false);
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.putSavedSearch("friends", "t:friends");
+        modelManager.setUserPrefs(userPrefs);
+        assertFalse(modelManager.hasSavedSearch("old"));
+        assertTrue(modelManager.hasSavedSearch("friends"));
+        assertEquals(3, modelManager.getSavedSearchList().get(0).getCount());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
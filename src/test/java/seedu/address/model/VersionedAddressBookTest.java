@@ -0,0 +1,159 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class VersionedAddressBookTest {
+
+    private final VersionedAddressBook addressBook = new VersionedAddressBook(getTypicalAddressBook());
+
+    @Test
+    public void constructor_emptyHistory() {
+        assertEquals(getTypicalAddressBook(), addressBook);
+        assertFalse(addressBook.canUndo());
+        assertFalse(addressBook.canRedo());
+        assertThrows(IllegalStateException.class, addressBook::undo);
+        assertThrows(IllegalStateException.class, addressBook::redo);
+    }
+
+    @Test
+    public void adopt_addressBook_takesOverPersonsWithEmptyHistory() {
+        VersionedAddressBook adopted = VersionedAddressBook.adopt(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), adopted);
+        assertFalse(adopted.canUndo());
+
+        adopted.removePerson(BENSON);
+        adopted.commit();
+        adopted.undo();
+        assertEquals(getTypicalAddressBook(), adopted);
+    }
+
+    @Test
+    public void adopt_addressBook_detachesSource() {
+        AddressBook source = getTypicalAddressBook();
+        VersionedAddressBook adopted = VersionedAddressBook.adopt(source);
+
+        assertTrue(source.getPersonList().isEmpty());
+        source.addPerson(AMY);
+        assertEquals(getTypicalAddressBook(), adopted);
+    }
+
+    @Test
+    public void adopt_versionedAddressBook_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> VersionedAddressBook.adopt(addressBook));
+    }
+
+    @Test
+    public void commit_noChanges_doesNotCreateRevision() {
+        addressBook.commit();
+        assertFalse(addressBook.canUndo());
+    }
+
+    @Test
+    public void undoRedo_singleCommand() {
+        addressBook.removePerson(BENSON);
+        addressBook.commit();
+        AddressBook afterRemoval = new AddressBook(addressBook);
+
+        addressBook.undo();
+        assertEquals(getTypicalAddressBook(), addressBook);
+        assertFalse(addressBook.canUndo());
+        assertTrue(addressBook.canRedo());
+
+        addressBook.redo();
+        assertEquals(afterRemoval, addressBook);
+        assertFalse(addressBook.canRedo());
+    }
+
+    @Test
+    public void undoRedo_deepHistory() {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        addressBook.addPerson(AMY);
+        addressBook.commit();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.removePerson(CARL);
+        addressBook.commit();
+        addressBook.setPersons(List.of(BOB));
+        addressBook.commit();
+        AddressBook latest = new AddressBook(addressBook);
+
+        addressBook.undo();
+        addressBook.undo();
+        AddressBook afterAdd = getTypicalAddressBook();
+        afterAdd.addPerson(AMY);
+        assertEquals(afterAdd, addressBook);
+
+        addressBook.undo();
+        assertEquals(getTypicalAddressBook(), addressBook);
+
+        addressBook.redo();
+        addressBook.redo();
+        addressBook.redo();
+        assertEquals(latest, addressBook);
+        assertEquals(List.of(BOB), addressBook.getPersonList());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedo() {
+        addressBook.addPerson(AMY);
+        addressBook.commit();
+        addressBook.undo();
+
+        addressBook.addPerson(BOB);
+        addressBook.commit();
+        assertFalse(addressBook.canRedo());
+
+        addressBook.undo();
+        assertEquals(getTypicalAddressBook(), addressBook);
+        assertFalse(addressBook.canUndo());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_undoesThem() {
+        addressBook.addPerson(AMY);
+        assertTrue(addressBook.canUndo());
+        assertFalse(addressBook.canRedo());
+
+        addressBook.undo();
+        assertEquals(getTypicalAddressBook(), addressBook);
+    }
+
+    @Test
+    public void undo_bumpsVersion() {
+        addressBook.removePerson(BENSON);
+        addressBook.commit();
+        long version = addressBook.getVersion();
+
+        addressBook.undo();
+        assertTrue(addressBook.getVersion() > version);
+    }
+
+    @Test
+    public void undoRedo_clear_swapsBackToRecordedVersions() {
+        Object beforeClear = addressBook.getPersistentPersons();
+        addressBook.setPersons(List.of());
+        addressBook.commit();
+        Object afterClear = addressBook.getPersistentPersons();
+
+        addressBook.undo();
+        assertSame(beforeClear, addressBook.getPersistentPersons());
+        addressBook.redo();
+        assertSame(afterClear, addressBook.getPersistentPersons());
+    }
+}
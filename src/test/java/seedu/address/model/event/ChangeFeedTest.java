@@ -0,0 +1,110 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ChangeFeedTest {
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ChangeFeed(0));
+        assertThrows(IllegalArgumentException.class, () -> new ChangeFeed(3));
+    }
+
+    @Test
+    public void publish_outOfOrderVersion_throwsIllegalArgumentException() {
+        ChangeFeed feed = new ChangeFeed(4);
+        assertThrows(IllegalArgumentException.class, () -> feed.publish(new PersonAdded(2, 0, ALICE)));
+    }
+
+    @Test
+    public void eventsSince_returnsEventsInOrder() {
+        ChangeFeed feed = new ChangeFeed(4);
+        feed.publish(new PersonAdded(1, 0, ALICE));
+        feed.publish(new PersonRemoved(2, 0, ALICE));
+
+        assertEquals(2, feed.getVersion());
+        List<ModelEvent> events = feed.eventsSince(0).get();
+        assertEquals(2, events.size());
+        assertSame(ALICE, ((PersonAdded) events.get(0)).getPerson());
+        assertEquals(List.of(), feed.eventsSince(2).get());
+        assertThrows(IllegalArgumentException.class, () -> feed.eventsSince(3));
+    }
+
+    @Test
+    public void eventsSince_overwritten_returnsEmpty() {
+        ChangeFeed feed = new ChangeFeed(2);
+        for (int version = 1; version <= 3; version++) {
+            feed.publish(new PersonAdded(version, 0, ALICE));
+        }
+        assertFalse(feed.eventsSince(0).isPresent());
+        assertEquals(2, feed.eventsSince(1).get().size());
+    }
+
+    @Test
+    public void subscription_catchesUpFromVersion() {
+        ChangeFeed feed = new ChangeFeed(2);
+        ChangeFeed.Subscription subscription = feed.subscribe(0);
+        feed.publish(new PersonAdded(1, 0, ALICE));
+        assertEquals(1, subscription.poll().get().size());
+        assertEquals(1, subscription.getVersion());
+        assertTrue(subscription.poll().get().isEmpty());
+
+        for (int version = 2; version <= 4; version++) {
+            feed.publish(new PersonAdded(version, 0, ALICE));
+        }
+        assertFalse(subscription.poll().isPresent());
+        subscription.resetTo(feed.getVersion());
+        assertTrue(subscription.poll().get().isEmpty());
+    }
+
+    @Test
+    public void modelMutations_publishTypedEvents() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        ChangeFeed.Subscription subscription = model.getChangeFeed().subscribe(model.getChangeFeed().getVersion());
+        Person editedAlice = new PersonBuilder(ALICE).withTags("vip").build();
+
+        model.addPerson(AMY);
+        model.setPerson(ALICE, editedAlice);
+        model.deletePerson(BENSON);
+        model.setAddressBook(new AddressBook());
+        model.commitAddressBook();
+        model.addPerson(BOB);
+        model.commitAddressBook();
+        model.undoAddressBook();
+
+        List<ModelEvent> events = subscription.poll().get();
+        assertEquals(6, events.size());
+        PersonAdded added = (PersonAdded) events.get(0);
+        assertEquals(getTypicalAddressBook().getPersonList().size(), added.getIndex());
+        assertSame(AMY, added.getPerson());
+        PersonUpdated updated = (PersonUpdated) events.get(1);
+        assertSame(ALICE, updated.getOldPerson());
+        assertSame(editedAlice, updated.getNewPerson());
+        assertEquals(0, updated.getIndex());
+        assertEquals(1, ((PersonRemoved) events.get(2)).getIndex());
+        assertTrue(((BookReset) events.get(3)).getContents().getPersonList().isEmpty());
+        assertSame(BOB, ((PersonAdded) events.get(4)).getPerson());
+        assertSame(BOB, ((PersonRemoved) events.get(5)).getPerson());
+        assertEquals(6, subscription.getVersion());
+    }
+}
@@ -37,6 +37,7 @@ public class PersonMatchesKeywordsPredicateTest {
                 firstTagKeywords,
                 "contacted", "12345678", "alice@example.com");
         assertTrue(firstPredicate.equals(firstPredicateCopy));
+        assertEquals(firstPredicate.hashCode(), firstPredicateCopy.hashCode());
 
         // different types -> returns false
         assertFalse(firstPredicate.equals(1));
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -24,6 +25,32 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void constructor_equalTags_shareInstance() {
+        Person first = new PersonBuilder().withTags(VALID_TAG_HUSBAND).build();
+        Person second = new PersonBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+        assertSame(first.getTags().iterator().next(), second.getTags().iterator().next());
+    }
+
+    @Test
+    public void hashCode_cachedAndConsistentWithEquals() {
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        assertEquals(ALICE.hashCode(), ALICE.hashCode());
+        assertEquals(ALICE.hashCode(), aliceCopy.hashCode());
+        assertTrue(ALICE.equals(aliceCopy));
+        assertFalse(ALICE.equals(BOB));
+    }
+
+    @Test
+    public void getSummary_listsAllDetails() {
+        Person person = new PersonBuilder(ALICE).withStatus("Contacted").withTags("friends").build();
+        String expected = ALICE.getName() + "; Phone: " + ALICE.getPhone() + "; Email: " + ALICE.getEmail()
+                + "; Address: " + ALICE.getAddress() + "; Status: Contacted; Tags: [friends]";
+        assertEquals(expected, person.getSummary());
+        assertSame(person.getSummary(), person.getSummary());
+        assertEquals("Contacted", person.getStatusText());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
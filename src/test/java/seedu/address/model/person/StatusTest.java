@@ -46,6 +46,20 @@ public class StatusTest {
         assertThrows(IllegalArgumentException.class, () -> Status.fromStringIgnoreCase(""));
         assertThrows(IllegalArgumentException.class, () -> Status.fromStringIgnoreCase("       "));
     }
-}
 
+    @Test
+    public void values_indexedByOrdinal() {
+        assertEquals(6, Status.values().size());
+        for (Status status : Status.values()) {
+            assertEquals(status, Status.values().get(status.ordinal()));
+        }
+        assertEquals(Status.UNCONTACTED, Status.values().get(0));
+    }
 
+    @Test
+    public void getDisplayText() {
+        assertEquals("Uncontacted", Status.UNCONTACTED.getDisplayText());
+        assertEquals("Unreachable", Status.UNREACHABLE.getDisplayText());
+        assertEquals("Busy", Status.BUSY.getDisplayText());
+    }
+}
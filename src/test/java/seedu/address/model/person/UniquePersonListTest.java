@@ -9,12 +9,15 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -162,6 +165,44 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void getSnapshot_tracksMutationsAndIsImmutable() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        List<Person> before = uniquePersonList.getSnapshot().asList();
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.remove(BOB);
+
+        assertEquals(Arrays.asList(ALICE, BOB), before);
+        assertEquals(uniquePersonList.asUnmodifiableObservableList(), uniquePersonList.getSnapshot().asList());
+    }
+
+    @Test
+    public void restore_returnsToEarlierVersionAndReportsChange() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        PersistentList<Person> withBoth = uniquePersonList.getSnapshot();
+        uniquePersonList.remove(ALICE);
+        PersistentList<Person> withBob = uniquePersonList.getSnapshot();
+        List<String> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + ":" + change.getRemoved() + "->" + change.getAddedSubList());
+            }
+        });
+
+        uniquePersonList.restore(withBoth, 0, 0, 1);
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        uniquePersonList.restore(withBob, 0, 1, 0);
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(List.of("0:[]->[" + ALICE + "]", "0:[" + ALICE + "]->[]"), changes);
+
+        // version does not match the described change
+        assertThrows(IndexOutOfBoundsException.class, () -> uniquePersonList.restore(withBoth, 0, 1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> uniquePersonList.restore(withBob, 1, 1, 1));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
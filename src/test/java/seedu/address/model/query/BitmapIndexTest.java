@@ -0,0 +1,90 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BitmapIndexTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final BitmapIndex bitmapIndex = new BitmapIndex(new PersonIndex(addressBook.getPersonList()));
+
+    @Test
+    public void evaluate_matchesPredicateEvaluation() {
+        TermNode friends = new TermNode(PersonIndex.Field.TAG, "friends");
+        TermNode meier = new TermNode(PersonIndex.Field.NAME, "Meier");
+        TermNode exampleEmail = new TermNode(PersonIndex.Field.EMAIL, "*e*@example.com");
+        List<QueryNode> queries = List.of(friends, exampleEmail,
+                new AndNode(List.of(friends, new NotNode(meier))),
+                new OrNode(List.of(meier, new NotNode(exampleEmail))),
+                new NotNode(new OrNode(List.of(friends, meier))));
+
+        for (QueryNode query : queries) {
+            assertEquals(filter(query), bitmapIndex.evaluate(query), query.toString());
+        }
+    }
+
+    @Test
+    public void evaluate_afterMutation_reflectsNewVersion() {
+        TermNode vip = new TermNode(PersonIndex.Field.TAG, "vip");
+        assertTrue(bitmapIndex.evaluate(vip).isEmpty());
+
+        Person vipAlice = new PersonBuilder(ALICE).withTags("vip").build();
+        addressBook.setPerson(ALICE, vipAlice);
+        assertEquals(Set.of(vipAlice), bitmapIndex.evaluate(vip));
+
+        addressBook.removePerson(BENSON);
+        assertFalse(bitmapIndex.evaluate(new NotNode(vip)).contains(BENSON));
+    }
+
+    @Test
+    public void evaluate_cachedTermAfterMutations_updatedInPlace() {
+        TermNode friends = new TermNode(PersonIndex.Field.TAG, "friends");
+        bitmapIndex.evaluate(friends);
+
+        Person friend = new PersonBuilder().withName("Zed Friend").withPhone("99999999")
+                .withEmail("zed@example.com").withTags("friends").build();
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(friend);
+        addressBook.addPerson(ALICE);
+
+        assertEquals(filter(friends), bitmapIndex.evaluate(friends));
+        assertEquals(filter(new NotNode(friends)), bitmapIndex.evaluate(new NotNode(friends)));
+    }
+
+    @Test
+    public void evaluate_moreTermsThanCached_matchesPredicateEvaluation() {
+        for (int i = 0; i <= BitmapIndex.MAX_CACHED_TERMS; i++) {
+            bitmapIndex.evaluate(new TermNode(PersonIndex.Field.PHONE, String.valueOf(i)));
+        }
+        TermNode friends = new TermNode(PersonIndex.Field.TAG, "friends");
+        addressBook.removePerson(BENSON);
+        assertEquals(filter(friends), bitmapIndex.evaluate(friends));
+    }
+
+    @Test
+    public void termMatches_wildcards() {
+        assertTrue(new TermNode(PersonIndex.Field.EMAIL, "*@ACME.com").matches("bob@acme.com"));
+        assertTrue(new TermNode(PersonIndex.Field.NAME, "al*e").matches("alice"));
+        assertTrue(new TermNode(PersonIndex.Field.NAME, "*").matches(""));
+        assertFalse(new TermNode(PersonIndex.Field.NAME, "al*ice*e").matches("alice"));
+        assertFalse(new TermNode(PersonIndex.Field.NAME, "alice").matches("alicea"));
+    }
+
+    private Set<Person> filter(QueryNode query) {
+        return addressBook.getPersonList().stream().filter(query).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class FilteredPersonListTest {
+    private static final Predicate<Person> FRIENDS = person ->
+            person.getTags().stream().anyMatch(tag -> tag.tagName.equals("friends"));
+
+    private final ObservableList<Person> source = FXCollections.observableArrayList(ALICE, BENSON, CARL, DANIEL);
+    private final FilteredPersonList filtered = new FilteredPersonList(source);
+
+    @Test
+    public void constructor_showsEveryPerson() {
+        assertEquals(source, filtered);
+        assertArrayEquals(new int[] {0, 1, 2, 3}, filtered.getSourcePositions());
+    }
+
+    @Test
+    public void setMatches_showsPositionsWithoutTesting() {
+        Predicate<Person> neverCalled = person -> {
+            throw new AssertionError("Matches must not be tested");
+        };
+        List<String> changes = recordChanges();
+        filtered.setMatches(neverCalled, new int[] {1, 3});
+
+        assertEquals(List.of(BENSON, DANIEL), filtered);
+        assertEquals(neverCalled, filtered.getPredicate());
+        assertEquals(List.of("removed 4 added 2"), changes);
+    }
+
+    @Test
+    public void sourceChanged_testsOnlyChangedPersons() {
+        filtered.setPredicate(FRIENDS);
+        assertEquals(List.of(ALICE, BENSON, DANIEL), filtered);
+
+        Person friend = new PersonBuilder().withName("Zed Friend").withTags("friends").build();
+        source.add(1, ELLE);
+        source.add(0, friend);
+        assertEquals(List.of(friend, ALICE, BENSON, DANIEL), filtered);
+        assertArrayEquals(new int[] {0, 1, 3, 5}, filtered.getSourcePositions());
+
+        source.remove(BENSON);
+        source.set(1, CARL);
+        assertEquals(List.of(friend, DANIEL), filtered);
+        assertEquals(source.filtered(FRIENDS), filtered);
+
+        source.sort((first, second) -> second.getName().fullName.compareTo(first.getName().fullName));
+        assertEquals(source.filtered(FRIENDS), filtered);
+    }
+
+    @Test
+    public void get_outOfBounds_throwsIndexOutOfBoundsException() {
+        filtered.setPredicate(FRIENDS);
+        assertThrows(IndexOutOfBoundsException.class, () -> filtered.get(3));
+        assertEquals(-1, filtered.getViewIndex(2));
+    }
+
+    private List<String> recordChanges() {
+        List<String> changes = new ArrayList<>();
+        filtered.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changes.add("removed " + change.getRemovedSize() + " added " + change.getAddedSize());
+            }
+        });
+        return changes;
+    }
+}
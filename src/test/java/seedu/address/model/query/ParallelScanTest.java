@@ -0,0 +1,31 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelScanTest {
+
+    @Test
+    public void evaluate_manyChunks_matchesSequentialFilter() {
+        Person[] persons = IntStream.range(0, ParallelScan.CHUNK_SIZE * 3 + 7)
+                .mapToObj(i -> new PersonBuilder().withName("Person " + (char) ('A' + i % 26))
+                        .withPhone(String.valueOf(10_000_000 + i)).build())
+                .toArray(Person[]::new);
+        Predicate<Person> predicate = person -> person.getName().fullName.endsWith("Q");
+
+        int[] expected = IntStream.range(0, persons.length).filter(i -> predicate.test(persons[i])).toArray();
+        assertArrayEquals(expected, ParallelScan.evaluate(persons, predicate));
+    }
+
+    @Test
+    public void evaluate_emptySnapshot_returnsNoPositions() {
+        assertArrayEquals(new int[0], ParallelScan.evaluate(new Person[0], person -> true));
+    }
+}
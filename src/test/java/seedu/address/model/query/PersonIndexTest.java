@@ -0,0 +1,64 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonIndexTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final PersonIndex index = new PersonIndex(addressBook.getPersonList());
+
+    @Test
+    public void lookup_caseInsensitive() {
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), index.lookup(PersonIndex.Field.TAG, "FRIENDS"));
+        assertEquals(Set.of(BENSON, DANIEL), index.lookup(PersonIndex.Field.NAME, "meier"));
+        assertEquals(Set.of(ALICE), index.lookup(PersonIndex.Field.EMAIL, "Alice@Example.com"));
+        assertEquals(Set.of(ALICE), index.lookup(PersonIndex.Field.PHONE, "94351253"));
+        assertEquals(addressBook.getPersonList().size(), index.count(PersonIndex.Field.STATUS, "uncontacted"));
+    }
+
+    @Test
+    public void lookup_missingKey_returnsEmptySet() {
+        assertTrue(index.lookup(PersonIndex.Field.NAME, "nobody").isEmpty());
+        assertEquals(0, index.count(PersonIndex.Field.TAG, "nobody"));
+    }
+
+    @Test
+    public void listChanges_keepIndexInSync() {
+        Person editedAlice = new PersonBuilder(ALICE).withTags("vip").withStatus("Contacted").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(2, index.count(PersonIndex.Field.TAG, "friends"));
+        assertEquals(Set.of(editedAlice), index.lookup(PersonIndex.Field.TAG, "vip"));
+        assertEquals(Set.of(editedAlice), index.lookup(PersonIndex.Field.STATUS, "contacted"));
+
+        addressBook.removePerson(editedAlice);
+        assertFalse(index.keys(PersonIndex.Field.TAG).contains("vip"));
+        assertEquals(addressBook.getPersonList().size(), index.size());
+
+        addressBook.setPersons(List.of());
+        assertTrue(index.keys(PersonIndex.Field.NAME).isEmpty());
+    }
+
+    @Test
+    public void normalize_matchesEqualsIgnoreCase() {
+        assertEquals(PersonIndex.normalize("ALICE"), PersonIndex.normalize("alice"));
+        // titlecase letters fold together with their upper and lower case forms
+        assertTrue("\u01C5".equalsIgnoreCase("\u01C6"));
+        assertEquals(PersonIndex.normalize("\u01C4"), PersonIndex.normalize("\u01C5"));
+        assertEquals(PersonIndex.normalize("\u01C5"), PersonIndex.normalize("\u01C6"));
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.AddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class QueryPlannerTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final QueryPlanner planner = new QueryPlanner(new PersonIndex(addressBook.getPersonList()),
+            addressBook::getVersion, () -> UserPrefs.DEFAULT_PARALLEL_FIND_THRESHOLD);
+
+    @Test
+    public void plan_selectiveClause_drivesFromIndex() {
+        PersonMatchesKeywordsPredicate predicate = new PersonMatchesKeywordsPredicate(List.of(),
+                List.of("friends"), "uncontacted", null, "johnd@example.com");
+        QueryPlan plan = planner.plan(predicate);
+
+        assertEquals(QueryPlan.Strategy.INDEX, plan.getStrategy());
+        assertEquals(PersonIndex.Field.EMAIL, plan.getClauses().get(0).getField());
+        assertEquals(List.of(BENSON), execute(plan, predicate));
+    }
+
+    @Test
+    public void plan_unselectiveClause_scans() {
+        PersonMatchesKeywordsPredicate predicate = new PersonMatchesKeywordsPredicate(List.of(), List.of(),
+                "uncontacted", null, null);
+        QueryPlan plan = planner.plan(predicate);
+
+        assertEquals(QueryPlan.Strategy.SCAN, plan.getStrategy());
+        assertEquals(addressBook.getPersonList().size(), execute(plan, predicate).size());
+    }
+
+    @Test
+    public void plan_bookAtParallelThreshold_scansInParallel() {
+        QueryPlanner parallelPlanner = new QueryPlanner(new PersonIndex(addressBook.getPersonList()),
+                addressBook::getVersion, () -> addressBook.getPersonList().size());
+        Predicate<Person> predicate = person -> person.getTags().isEmpty();
+        QueryPlan plan = parallelPlanner.plan(predicate);
+
+        assertEquals(QueryPlan.Strategy.PARALLEL_SCAN, plan.getStrategy());
+        execute(plan, predicate);
+    }
+
+    @Test
+    public void plan_booleanQuery_usesBitmaps() {
+        QueryNode predicate = new AndNode(List.of(new TermNode(PersonIndex.Field.TAG, "friends"),
+                new NotNode(new TermNode(PersonIndex.Field.NAME, "alice"))));
+        QueryPlan plan = planner.plan(predicate);
+
+        assertEquals(QueryPlan.Strategy.BITMAP, plan.getStrategy());
+        assertEquals(2, execute(plan, predicate).size());
+    }
+
+    @Test
+    public void plan_repeatedQuery_servedFromCacheUntilBookChanges() {
+        PersonMatchesKeywordsPredicate predicate = new PersonMatchesKeywordsPredicate(List.of(), List.of(),
+                "Uncontacted", null, null);
+        execute(planner.plan(predicate), predicate);
+
+        PersonMatchesKeywordsPredicate sameQuery = new PersonMatchesKeywordsPredicate(List.of(), List.of(),
+                "uncontacted", null, null);
+        QueryPlan cachedPlan = planner.plan(sameQuery);
+        assertEquals(QueryPlan.Strategy.CACHED, cachedPlan.getStrategy());
+        execute(cachedPlan, sameQuery);
+
+        addressBook.removePerson(ALICE);
+        assertEquals(QueryPlan.Strategy.SCAN, planner.plan(sameQuery).getStrategy());
+    }
+
+    @Test
+    public void plan_unknownPredicate_scans() {
+        Predicate<Person> predicate = person -> person.equals(ALICE);
+        QueryPlan plan = planner.plan(predicate);
+
+        assertEquals(QueryPlan.Strategy.SCAN, plan.getStrategy());
+        assertTrue(plan.getClauses().isEmpty());
+        assertEquals(List.of(ALICE), execute(plan, predicate));
+    }
+
+    @Test
+    public void plan_nameKeywords_matchesScan() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("kurz", "ELLE"));
+        QueryPlan plan = planner.plan(predicate);
+
+        assertEquals(QueryPlan.Strategy.INDEX, plan.getStrategy());
+        assertEquals(addressBook.getPersonList().filtered(predicate), execute(plan, predicate));
+    }
+
+    @Test
+    public void execute_bookModifiedAfterPlanning_fallsBackToPredicate() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("Pauline"));
+        FilteredList<Person> filtered = new FilteredList<>(addressBook.getPersonList());
+        filtered.setPredicate(planner.plan(predicate).execute().getFilter());
+        assertEquals(List.of(ALICE), filtered);
+
+        Person newPauline = new PersonBuilder().withName("Pauline Tan").withPhone("81234567").build();
+        addressBook.addPerson(newPauline);
+        assertEquals(List.of(ALICE, newPauline), filtered);
+    }
+
+    @Test
+    public void describe_containsStrategyAndClauses() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("Kurz"));
+        QueryPlan plan = planner.plan(predicate);
+        execute(plan, predicate);
+
+        String description = plan.describe();
+        assertTrue(description.contains("INDEX"));
+        assertTrue(description.contains("NAME [Kurz]"));
+        assertTrue(description.contains("matched 1"));
+        assertFalse(description.contains("filter"));
+    }
+
+    private List<Person> execute(QueryPlan plan, Predicate<Person> predicate) {
+        ListFilter matches = plan.execute().getMatches();
+        FilteredPersonList filtered = new FilteredPersonList(addressBook.getPersonList());
+        filtered.setMatches(matches.getFilter(), matches.getPositions());
+        assertEquals(addressBook.getPersonList().filtered(predicate), filtered);
+        assertEquals(addressBook.getPersonList().filtered(matches.getFilter()), filtered);
+        return List.copyOf(filtered);
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesKeywordsPredicate;
+
+public class ResultCacheTest {
+
+    private final AtomicLong version = new AtomicLong();
+    private final ResultCache cache = new ResultCache(2, version::get);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ResultCache(0, version::get));
+    }
+
+    @Test
+    public void get_afterVersionChange_returnsEmpty() {
+        cache.put("key", Set.of(ALICE));
+        assertEquals(Set.of(ALICE), cache.get("key").get());
+
+        version.incrementAndGet();
+        assertFalse(cache.get("key").isPresent());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void put_overCapacity_evictsLeastRecentlyUsed() {
+        Set<Person> matches = Set.of(BENSON);
+        cache.put("first", matches);
+        cache.put("second", matches);
+        cache.get("first");
+        cache.put("third", matches);
+
+        assertTrue(cache.get("first").isPresent());
+        assertFalse(cache.get("second").isPresent());
+        assertTrue(cache.get("third").isPresent());
+    }
+
+    @Test
+    public void keyOf_equivalentPredicates_shareKey() {
+        PersonMatchesKeywordsPredicate first = new PersonMatchesKeywordsPredicate(List.of("Alice", "bob"),
+                List.of("Priority"), "Uncontacted", "", null);
+        PersonMatchesKeywordsPredicate second = new PersonMatchesKeywordsPredicate(List.of("BOB", " alice", "Bob"),
+                List.of("priority"), "uncontacted", null, "");
+        assertEquals(ResultCache.keyOf(first), ResultCache.keyOf(second));
+
+        assertEquals(ResultCache.keyOf(new NameContainsKeywordsPredicate(List.of("Kurz", "elle"))),
+                ResultCache.keyOf(new NameContainsKeywordsPredicate(List.of("ELLE", "kurz"))));
+
+        // unknown predicates cannot be cached
+        assertFalse(ResultCache.keyOf(person -> true).isPresent());
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.ChangeFeed;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class SavedSearchTest {
+
+    private static final Predicate<Person> FRIENDS =
+            new PersonMatchesKeywordsPredicate(List.of(), List.of("friends"), null, null, null);
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final ChangeFeed feed = new ChangeFeed(2);
+    private final SavedSearch friends = new SavedSearch("friends", "t:friends", FRIENDS, feed,
+            addressBook::getSnapshot);
+
+    @BeforeEach
+    public void setUp() {
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            feed.publish(change, addressBook::getSnapshot);
+            friends.catchUp();
+        });
+    }
+
+    @Test
+    public void constructor_invalidName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SavedSearch("my friends", "t:friends",
+                person -> true, feed, addressBook::getSnapshot));
+    }
+
+    @Test
+    public void isValidName() {
+        assertTrue(SavedSearch.isValidName("uncontactedVips2"));
+        assertFalse(SavedSearch.isValidName(""));
+        assertFalse(SavedSearch.isValidName("vip partners"));
+        assertFalse(SavedSearch.isValidName("vip-partners"));
+    }
+
+    @Test
+    public void mutations_updateMembershipIncrementally() {
+        assertEquals(3, friends.getCount());
+
+        Person carlFriend = new PersonBuilder(CARL).withTags("friends").build();
+        addressBook.setPerson(CARL, carlFriend);
+        assertEquals(4, friends.getCount());
+        assertTrue(friends.asFilter().test(carlFriend));
+
+        addressBook.removePerson(ALICE);
+        assertEquals(3, friends.countProperty().get());
+        assertFalse(friends.asFilter().test(ALICE));
+
+        addressBook.setPersons(List.of(BENSON));
+        assertEquals(1, friends.getCount());
+    }
+
+    @Test
+    public void asFilter_installedBeforeMutation_filtersNewPersons() {
+        FilteredList<Person> filtered = new FilteredList<>(addressBook.getPersonList());
+        filtered.setPredicate(friends.asFilter());
+        assertEquals(3, filtered.size());
+
+        Person newFriend = new PersonBuilder().withName("New Friend").withPhone("81112222").withTags("friends")
+                .build();
+        addressBook.addPerson(newFriend);
+        assertTrue(filtered.contains(newFriend));
+        assertEquals(4, filtered.size());
+    }
+
+    @Test
+    public void asFilter_notCaughtUp_testsPredicate() {
+        SavedSearch lagging = new SavedSearch("lagging", "t:friends", FRIENDS, feed, addressBook::getSnapshot);
+        Person carlFriend = new PersonBuilder(CARL).withTags("friends").build();
+        addressBook.setPerson(CARL, carlFriend);
+
+        assertEquals(3, lagging.getCount());
+        assertTrue(lagging.asFilter().test(carlFriend));
+    }
+
+    @Test
+    public void catchUp_fellBehindFeed_rebuildsFromSnapshot() {
+        SavedSearch lagging = new SavedSearch("lagging", "t:friends", FRIENDS, feed, addressBook::getSnapshot);
+        addressBook.removePerson(ALICE);
+        addressBook.removePerson(BENSON);
+        addressBook.removePerson(CARL);
+
+        lagging.catchUp();
+        assertEquals(1, lagging.getCount());
+        assertFalse(lagging.asFilter().test(ALICE));
+    }
+}
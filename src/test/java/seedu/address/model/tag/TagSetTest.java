@@ -0,0 +1,62 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private final TagSet tags = TagSet.of(Arrays.asList(new Tag("vip"), new Tag("friends"), new Tag("Work"),
+            new Tag("friends")));
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.of(null));
+        assertThrows(NullPointerException.class, () -> TagSet.of(Arrays.asList(new Tag("vip"), null)));
+    }
+
+    @Test
+    public void of_sortsDistinctCanonicalTags() {
+        assertEquals(3, tags.size());
+        assertEquals(List.of(new Tag("Work"), new Tag("friends"), new Tag("vip")), new ArrayList<>(tags));
+        tags.forEach(tag -> assertSame(Tag.of(tag.tagName), tag));
+        assertSame(tags, TagSet.of(tags));
+        assertSame(TagSet.of(Set.of()), TagSet.of(new HashSet<>()));
+    }
+
+    @Test
+    public void contains() {
+        assertTrue(tags.contains(new Tag("friends")));
+        assertFalse(tags.contains(new Tag("Friends")));
+        assertFalse(tags.contains("friends"));
+        assertTrue(tags.containsIgnoreCase("FRIENDS"));
+        assertTrue(tags.containsIgnoreCase("work"));
+        assertFalse(tags.containsIgnoreCase("colleagues"));
+    }
+
+    @Test
+    public void equalsAndHashCode_matchOtherSets() {
+        Set<Tag> hashSet = new HashSet<>(Arrays.asList(new Tag("vip"), new Tag("friends"), new Tag("Work")));
+        assertEquals(hashSet, tags);
+        assertEquals(tags, hashSet);
+        assertEquals(hashSet.hashCode(), tags.hashCode());
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(new Tag("new")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(new Tag("missing")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.removeIf(tag -> true));
+        assertThrows(UnsupportedOperationException.class, tags::clear);
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AddressBookSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void save_whileWriting_coalescesWaitingSnapshots() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        List<ReadOnlyAddressBook> written = new ArrayList<>();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                written.add(addressBook);
+                firstWriteStarted.countDown();
+                try {
+                    releaseFirstWrite.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        AddressBookSaver saver = new AddressBookSaver(storage, e -> { });
+
+        AddressBook first = new AddressBook();
+        AddressBook second = getTypicalAddressBook();
+        AddressBook third = new AddressBook();
+        saver.save(first);
+        firstWriteStarted.await();
+        CompletableFuture<Void> secondWrite = saver.save(second);
+        CompletableFuture<Void> thirdWrite = saver.save(third);
+        releaseFirstWrite.countDown();
+        saver.flush();
+
+        assertSame(secondWrite, thirdWrite);
+        assertTrue(thirdWrite.isDone());
+        assertEquals(2, written.size());
+        assertSame(first, written.get(0));
+        assertSame(third, written.get(1));
+    }
+
+    @Test
+    public void save_storageThrows_reportsFailure() {
+        IOException failure = new IOException("disk full");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        List<IOException> reported = new ArrayList<>();
+        AddressBookSaver saver = new AddressBookSaver(storage, reported::add);
+
+        CompletableFuture<Void> write = saver.save(new AddressBook());
+        saver.flush();
+
+        assertEquals(List.of(failure), reported);
+        assertSame(failure, write.handle((unused, e) -> e).join());
+    }
+
+    @Test
+    public void flush_afterSave_dataWritten() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        AddressBookSaver saver = new AddressBookSaver(storage, e -> { });
+
+        saver.save(getTypicalAddressBook());
+        saver.flush();
+
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+    }
+}
@@ -1,9 +1,14 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -111,6 +116,19 @@ public class JsonAddressBookUtilTest {
         assertEquals("Hoon Meier", addressBook.getPersonList().get(1).getName().toString());
     }
 
+    @Test
+    public void readAddressBookFromJsonString_repeatedAddress_sharesAddress() throws Exception {
+        String sameOfficeJson = "{\"persons\": ["
+                + "{\"name\": \"Alice Pauline\", \"phone\": \"94351253\", \"email\": \"alice@example.com\","
+                + " \"address\": \"1 Fusionopolis Way\", \"tags\": []},"
+                + "{\"name\": \"Hoon Meier\", \"phone\": \"8482424\", \"email\": \"stefan@example.com\","
+                + " \"address\": \"1 Fusionopolis Way \", \"tags\": []}"
+                + "]}";
+
+        List<Person> persons = JsonAddressBookUtil.readAddressBookFromJsonString(sameOfficeJson).getPersonList();
+        assertSame(persons.get(0).getAddress(), persons.get(1).getAddress());
+    }
+
     @Test
     public void readAddressBookFromJsonString_emptyString_throwsDataLoadingException() {
         assertThrows(DataLoadingException.class, () -> JsonAddressBookUtil.readAddressBookFromJsonString(""));
@@ -120,4 +138,50 @@ public class JsonAddressBookUtilTest {
     public void readAddressBookFromJsonString_null_throwsDataLoadingException() {
         assertThrows(DataLoadingException.class, () -> JsonAddressBookUtil.readAddressBookFromJsonString(null));
     }
+
+    @Test
+    public void readAddressBookFromJsonString_withProgress_reportsCharactersReadAfterEachPerson() throws Exception {
+        String json = "{\"persons\": ["
+                + "{\"name\": \"Alice Pauline\", \"phone\": \"94351253\", \"email\": \"alice@example.com\","
+                + " \"address\": \"little india\", \"tags\": []},"
+                + "{\"name\": \"Hoon Meier\", \"phone\": \"8482424\", \"email\": \"stefan@example.com\","
+                + " \"address\": \"little india\", \"tags\": []}"
+                + "]}";
+        List<String> updates = new ArrayList<>();
+
+        JsonAddressBookUtil.readAddressBookFromJsonString(json, (workDone, totalWork) ->
+                updates.add(workDone + "/" + totalWork));
+
+        int endOfFirst = json.indexOf("},") + 1;
+        int endOfSecond = json.lastIndexOf("}]") + 1;
+        assertEquals(List.of(endOfFirst + "/" + json.length(), endOfSecond + "/" + json.length(),
+                json.length() + "/" + json.length()), updates);
+    }
+
+    @Test
+    public void readAddressBookFromJsonString_listenerThrows_stopsReadingBeforeNextPerson() {
+        // the second person is not even well-formed, so reading it would fail differently
+        String json = "{\"persons\": [{\"name\": \"Alice Pauline\", \"phone\": \"94351253\","
+                + " \"email\": \"alice@example.com\", \"address\": \"little india\", \"tags\": []}, {]}";
+        assertThrows(CancellationException.class, () -> JsonAddressBookUtil.readAddressBookFromJsonString(json, (
+                workDone, totalWork) -> {
+            throw new CancellationException();
+        }));
+    }
+
+    @Test
+    public void countPersons_validJson_returnsCount() throws Exception {
+        assertEquals(0, JsonAddressBookUtil.countPersons("{\"persons\": []}"));
+        assertEquals(0, JsonAddressBookUtil.countPersons("{}"));
+        assertEquals(2, JsonAddressBookUtil.countPersons(
+                "{\"other\": {\"persons\": [1]}, \"persons\": [{\"name\": \"a\", \"tags\": [\"x\"]}, {}]}"));
+    }
+
+    @Test
+    public void countPersons_invalidJson_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> JsonAddressBookUtil.countPersons("[]"));
+        assertThrows(DataLoadingException.class, () -> JsonAddressBookUtil.countPersons("{ not valid json }"));
+        assertThrows(DataLoadingException.class, () -> JsonAddressBookUtil.countPersons("{\"persons\": [{}, "));
+        assertThrows(DataLoadingException.class, () -> JsonAddressBookUtil.countPersons(""));
+    }
 }
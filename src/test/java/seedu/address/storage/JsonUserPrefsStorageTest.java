@@ -2,9 +2,11 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
@@ -120,4 +122,32 @@ public class JsonUserPrefsStorageTest {
         assertEquals(original, readBack);
     }
 
+    @Test
+    public void saveUserPrefsIfChanged_onlyRewritesChangedPrefs() throws DataLoadingException, IOException {
+        UserPrefs original = new UserPrefs();
+        Path prefsFilePath = testFolder.resolve("TempPrefs.json");
+        JsonUserPrefsStorage jsonUserPrefsStorage = new JsonUserPrefsStorage(prefsFilePath);
+
+        // missing file -> written
+        assertTrue(jsonUserPrefsStorage.saveUserPrefsIfChanged(original));
+
+        // same prefs read back -> not written
+        assertFalse(jsonUserPrefsStorage.saveUserPrefsIfChanged(jsonUserPrefsStorage.readUserPrefs().get()));
+
+        // changed prefs -> written
+        original.setGuiSettings(new GuiSettings(5, 5, 5, 5));
+        assertTrue(jsonUserPrefsStorage.saveUserPrefsIfChanged(original));
+        assertEquals(original, jsonUserPrefsStorage.readUserPrefs().get());
+    }
+
+    @Test
+    public void saveUserPrefsIfChanged_extraValuesInFile_rewritten() throws DataLoadingException, IOException {
+        Path prefsFilePath = testFolder.resolve("TempPrefs.json");
+        Files.copy(addToTestDataPathIfNotNull("ExtraValuesUserPref.json"), prefsFilePath);
+        JsonUserPrefsStorage jsonUserPrefsStorage = new JsonUserPrefsStorage(prefsFilePath);
+
+        assertTrue(jsonUserPrefsStorage.saveUserPrefsIfChanged(jsonUserPrefsStorage.readUserPrefs().get()));
+        assertFalse(jsonUserPrefsStorage.saveUserPrefsIfChanged(jsonUserPrefsStorage.readUserPrefs().get()));
+    }
+
 }
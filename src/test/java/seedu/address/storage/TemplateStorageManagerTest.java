@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
@@ -43,6 +44,29 @@ public class TemplateStorageManagerTest {
         assertEquals(expectedContent, result);
     }
 
+    @Test
+    public void readTemplate_readBefore_servedFromMemory() throws IOException {
+        TemplateStorageManager storage = new TemplateStorageManager(temporaryFolder);
+        Path templateFile = temporaryFolder.resolve("contactedTemplate.txt");
+        Files.writeString(templateFile, "First content");
+        assertEquals("First content", storage.readTemplate(Status.CONTACTED));
+
+        Files.delete(templateFile);
+        assertEquals("First content", storage.readTemplate(Status.CONTACTED));
+    }
+
+    @Test
+    public void preloadTemplates_readsExistingFilesOnly() throws IOException {
+        TemplateStorageManager storage = new TemplateStorageManager(temporaryFolder);
+        Path contactedFile = temporaryFolder.resolve("contactedTemplate.txt");
+        Files.writeString(contactedFile, "Preloaded content");
+        storage.preloadTemplates();
+
+        Files.delete(contactedFile);
+        assertEquals("Preloaded content", storage.readTemplate(Status.CONTACTED));
+        assertFalse(Files.exists(temporaryFolder.resolve("busyTemplate.txt")));
+    }
+
     @Test
     public void saveTemplate_newFile_createsFile() throws IOException {
         TemplateStorageManager storage = new TemplateStorageManager(temporaryFolder);
@@ -216,5 +240,10 @@ public class TemplateStorageManagerTest {
         public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
             // Do nothing
         }
+
+        @Override
+        public boolean saveUserPrefsIfChanged(ReadOnlyUserPrefs userPrefs) throws IOException {
+            return false;
+        }
     }
 }
@@ -0,0 +1,133 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.application.Platform;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.Label;
+import javafx.scene.control.Labeled;
+import javafx.stage.Stage;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.ModelManager;
+import seedu.address.model.StatusViewState;
+import seedu.address.model.TagsViewState;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.TemplateStorageManager;
+
+/**
+ * Checks that each part that can build its scene graph in code builds the same graph as its FXML file.
+ */
+public class BuiltInCodeUiTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @BeforeAll
+    public static void startToolkit() throws Exception {
+        System.setProperty("glass.platform", "Monocle");
+        System.setProperty("monocle.platform", "Headless");
+        System.setProperty("prism.order", "sw");
+        CompletableFuture<Void> started = new CompletableFuture<>();
+        try {
+            Platform.startup(() -> started.complete(null));
+        } catch (IllegalStateException e) {
+            started.complete(null); // already started by another test
+        }
+        started.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void buildRoot_leafParts_matchFxml() throws Exception {
+        assertSameGraph(PersonCard::new);
+        assertSameGraph(ResultDisplay::new);
+        assertSameGraph(() -> new StatusBarFooter(Paths.get("data", "addressbook.json")));
+        assertSameGraph(() -> new CommandBox(commandText -> null));
+        assertSameGraph(() -> new PersonListPanel(FXCollections.observableArrayList()));
+        assertSameGraph(() -> new StatusViewPanel(new SimpleObjectProperty<>(StatusViewState.ALL_STATUSES)));
+        assertSameGraph(() -> new TagsViewPanel(new SimpleObjectProperty<>(TagsViewState.ALL_TAGS)));
+        assertSameGraph(() -> new SavedSearchesPanel(FXCollections.observableArrayList()));
+        assertSameGraph(() -> new SidebarPanel(new SimpleObjectProperty<>(StatusViewState.ALL_STATUSES),
+                new SimpleObjectProperty<>(TagsViewState.ALL_TAGS), FXCollections.observableArrayList()));
+    }
+
+    @Test
+    public void buildRoot_mainWindow_matchesFxml() throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new TemplateStorageManager(temporaryFolder.resolve("templates")));
+        Logic logic = new LogicManager(new ModelManager(), storage);
+        Supplier<Node> mainWindow = () -> {
+            Stage stage = new MainWindow(new Stage(), logic).getRoot();
+            return new Label(stage.getTitle() + " " + stage.getMinWidth() + "x" + stage.getMinHeight()
+                    + " " + stage.getScene().getStylesheets(), stage.getScene().getRoot());
+        };
+        assertEquals(describe(onFxThread(mainWindow, false)), describe(onFxThread(mainWindow, true)));
+    }
+
+    private static void assertSameGraph(Supplier<UiPart<? extends Node>> part) throws Exception {
+        Supplier<Node> root = () -> part.get().getRoot();
+        assertEquals(describe(onFxThread(root, false)), describe(onFxThread(root, true)));
+    }
+
+    private static Node onFxThread(Supplier<Node> build, boolean isBuiltInCode) throws Exception {
+        CompletableFuture<Node> root = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            UiPart.setBuiltInCode(isBuiltInCode);
+            try {
+                root.complete(build.get());
+            } catch (Throwable e) {
+                root.completeExceptionally(e);
+            } finally {
+                UiPart.setBuiltInCode(false);
+            }
+        });
+        return root.get(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Returns the type, id and style classes of {@code node} and of every node below it, one per line.
+     */
+    private static String describe(Node node) {
+        StringBuilder description = new StringBuilder();
+        describe(node, "", description);
+        return description.toString();
+    }
+
+    private static void describe(Node node, String indent, StringBuilder description) {
+        if (node == null) {
+            return;
+        }
+        description.append(indent).append(node.getClass().getSimpleName()).append(" #").append(node.getId())
+                .append(" ").append(node.getStyleClass()).append("\n");
+        if (node instanceof Labeled) {
+            // "$..." texts are FXML placeholders, replaced before the part is shown
+            String text = ((Labeled) node).getText();
+            if (!text.isEmpty() && !text.startsWith("$")) {
+                description.append(indent).append("  text: ").append(text).append("\n");
+            }
+            describe(((Labeled) node).getGraphic(), indent + "  ", description);
+        }
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                describe(child, indent + "  ", description);
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TagsViewState;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.FindResult;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.TemplateStorageManager;
+
+public class LiveFindTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final AtomicInteger evaluations = new AtomicInteger();
+    private final ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs()) {
+        @Override
+        public FindResult evaluateFind(Predicate<Person> predicate) {
+            evaluations.incrementAndGet();
+            return super.evaluateFind(predicate);
+        }
+    };
+    private final StringProperty commandText = new SimpleStringProperty("");
+    private final BlockingQueue<Runnable> displayQueue = new LinkedBlockingQueue<>();
+    private final ExecutorService evaluator = Executors.newSingleThreadExecutor();
+    private Logic logic;
+    private ManualDebounce debounce;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new TemplateStorageManager(temporaryFolder.resolve("templates")));
+        logic = new LogicManager(model, storage);
+        new LiveFind(logic, commandText, action -> debounce = new ManualDebounce(action), evaluator,
+                displayQueue::add);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        evaluator.shutdownNow();
+        logic.flushSaves();
+    }
+
+    @Test
+    public void getFindArguments() {
+        // find commands -> arguments including the separating whitespace
+        assertEquals(" n:alice", LiveFind.getFindArguments("find n:alice"));
+        assertEquals(" alice bob", LiveFind.getFindArguments("  find alice bob"));
+        assertEquals("", LiveFind.getFindArguments("find"));
+
+        // other commands -> null
+        assertNull(LiveFind.getFindArguments(""));
+        assertNull(LiveFind.getFindArguments("list"));
+        assertNull(LiveFind.getFindArguments("finder alice"));
+        assertNull(LiveFind.getFindArguments("fin"));
+    }
+
+    @Test
+    public void typing_evaluatesOnlyLatestTextOncePaused() throws Exception {
+        commandText.set("find n:Alice");
+        commandText.set("find n:Benson");
+        assertEquals(0, evaluations.get());
+
+        debounce.elapse();
+        runNextDisplayTask();
+        assertEquals(1, evaluations.get());
+        assertEquals(List.of(BENSON), logic.getFilteredPersonList());
+    }
+
+    @Test
+    public void typing_cancelsEvaluationNotYetStarted() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        evaluator.submit(() -> {
+            release.await();
+            return null;
+        });
+        commandText.set("find n:Alice");
+        debounce.elapse();
+        commandText.set("find n:Benson");
+        debounce.elapse();
+        release.countDown();
+
+        runNextDisplayTask();
+        evaluator.shutdown();
+        assertTrue(evaluator.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(1, evaluations.get());
+        assertTrue(displayQueue.isEmpty());
+        assertEquals(List.of(BENSON), logic.getFilteredPersonList());
+    }
+
+    @Test
+    public void typing_dropsResultOvertakenByNewerText() throws Exception {
+        commandText.set("find n:Alice");
+        debounce.elapse();
+        Runnable show = displayQueue.poll(5, TimeUnit.SECONDS);
+        assertNotNull(show);
+
+        commandText.set("find n:Alice ");
+        show.run();
+        assertEquals(getTypicalAddressBook().getPersonList(), logic.getFilteredPersonList());
+    }
+
+    @Test
+    public void leavingFind_restoresListAndViews() throws Exception {
+        commandText.set("find t:owesMoney");
+        debounce.elapse();
+        runNextDisplayTask();
+        assertEquals(List.of(BENSON), logic.getFilteredPersonList());
+        assertEquals(new TagsViewState(List.of("owesMoney")), logic.getTagsViewStateProperty().get());
+
+        commandText.set("list");
+        assertEquals(getTypicalAddressBook().getPersonList(), logic.getFilteredPersonList());
+        assertEquals(TagsViewState.ALL_TAGS, logic.getTagsViewStateProperty().get());
+    }
+
+    @Test
+    public void leavingFind_afterCommandEntered_keepsCommandResult() throws Exception {
+        commandText.set("find n:Alice");
+        debounce.elapse();
+        runNextDisplayTask();
+
+        logic.execute("find n:Alice");
+        commandText.set("");
+        assertEquals(List.of(ALICE), logic.getFilteredPersonList());
+    }
+
+    private void runNextDisplayTask() throws InterruptedException {
+        Runnable task = displayQueue.poll(5, TimeUnit.SECONDS);
+        assertNotNull(task);
+        task.run();
+    }
+
+    /**
+     * A debounce whose time only passes when the test says so.
+     */
+    private static class ManualDebounce implements LiveFind.Debounce {
+        private final Runnable action;
+        private boolean waiting;
+
+        ManualDebounce(Runnable action) {
+            this.action = action;
+        }
+
+        @Override
+        public void restart() {
+            waiting = true;
+        }
+
+        @Override
+        public void stop() {
+            waiting = false;
+        }
+
+        void elapse() {
+            if (waiting) {
+                waiting = false;
+                action.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+public class PagedPersonListTest {
+
+    @Test
+    public void constructor_sourceFitsWindow_showsWholeSource() {
+        ObservableList<Person> source = FXCollections.observableArrayList(ALICE, BENSON);
+        PagedPersonList paged = new PagedPersonList(source, 3);
+
+        assertFalse(paged.isPaged());
+        assertEquals(List.of(ALICE, BENSON), paged);
+    }
+
+    @Test
+    public void constructor_sourceLongerThanWindow_showsFirstWindow() {
+        ObservableList<Person> source = FXCollections.observableArrayList(getTypicalPersons());
+        PagedPersonList paged = new PagedPersonList(source, 3);
+
+        assertTrue(paged.isPaged());
+        assertEquals(0, paged.getOffset());
+        assertEquals(7, paged.getTotalSize());
+        assertEquals(List.of(ALICE, BENSON, CARL), paged);
+    }
+
+    @Test
+    public void moveTo_clampsToSource() {
+        ObservableList<Person> source = FXCollections.observableArrayList(getTypicalPersons());
+        PagedPersonList paged = new PagedPersonList(source, 3);
+
+        assertEquals(2, paged.moveTo(2));
+        assertEquals(List.of(CARL, DANIEL, ELLE), paged);
+
+        // past the end -> last window
+        assertEquals(4, paged.moveTo(100));
+        assertEquals(List.of(ELLE, FIONA, GEORGE), paged);
+
+        // before the start -> first window
+        assertEquals(0, paged.moveTo(-5));
+        assertEquals(List.of(ALICE, BENSON, CARL), paged);
+    }
+
+    @Test
+    public void pageBy_movesWholeWindows() {
+        ObservableList<Person> source = FXCollections.observableArrayList(getTypicalPersons());
+        PagedPersonList paged = new PagedPersonList(source, 3);
+
+        assertEquals(3, paged.pageBy(1));
+        assertEquals(List.of(DANIEL, ELLE, FIONA), paged);
+        assertEquals("Rows 4 to 6 of 7", paged.describeWindow());
+
+        // past the end -> last window
+        assertEquals(4, paged.pageBy(1));
+        assertEquals("Rows 5 to 7 of 7", paged.describeWindow());
+
+        assertEquals(1, paged.pageBy(-1));
+        assertEquals(0, paged.pageBy(-1));
+        assertEquals(List.of(ALICE, BENSON, CARL), paged);
+    }
+
+    @Test
+    public void center_returnsPositionOfRow() {
+        ObservableList<Person> source = FXCollections.observableArrayList(getTypicalPersons());
+        PagedPersonList paged = new PagedPersonList(source, 3);
+
+        int position = paged.center(3);
+        assertEquals(1, position);
+        assertEquals(DANIEL, paged.get(position));
+
+        position = paged.center(6);
+        assertEquals(2, position);
+        assertEquals(GEORGE, paged.get(position));
+
+        position = paged.center(0);
+        assertEquals(0, position);
+        assertEquals(ALICE, paged.get(position));
+    }
+
+    @Test
+    public void sourceChanged_fitsWindow_passesChangesOn() {
+        ObservableList<Person> source = FXCollections.observableArrayList(ALICE, BENSON);
+        PagedPersonList paged = new PagedPersonList(source, 3);
+        List<Integer> addedAt = new ArrayList<>();
+        paged.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                addedAt.add(change.wasAdded() ? change.getFrom() : -1);
+            }
+        });
+
+        source.add(1, CARL);
+        assertEquals(List.of(ALICE, CARL, BENSON), paged);
+        source.remove(ALICE);
+        assertEquals(List.of(CARL, BENSON), paged);
+        source.set(0, AMY);
+        assertEquals(List.of(AMY, BENSON), paged);
+
+        // each change is reported where it happened rather than as a refresh of the whole list
+        assertEquals(List.of(1, -1, 0), addedAt);
+    }
+
+    @Test
+    public void sourceChanged_paged_refreshesWindow() {
+        ObservableList<Person> source = FXCollections.observableArrayList(getTypicalPersons());
+        PagedPersonList paged = new PagedPersonList(source, 3);
+        paged.moveTo(4);
+
+        source.add(5, BOB);
+        assertEquals(4, paged.getOffset());
+        assertEquals(List.of(ELLE, BOB, FIONA), paged);
+
+        // shrinking below the offset moves the window back
+        source.remove(2, 8);
+        assertEquals(0, paged.getOffset());
+        assertEquals(List.of(ALICE, BENSON), paged);
+        assertFalse(paged.isPaged());
+    }
+
+    @Test
+    public void sourceChanged_growsPastWindow_becomesPaged() {
+        ObservableList<Person> source = FXCollections.observableArrayList(ALICE, BENSON);
+        PagedPersonList paged = new PagedPersonList(source, 3);
+
+        source.addAll(CARL, DANIEL);
+        assertTrue(paged.isPaged());
+        assertEquals(List.of(ALICE, BENSON, CARL), paged);
+    }
+}
@@ -75,6 +75,20 @@ public class UiPartTest {
         assertThrows(AssertionError.class, () -> new TestUiPart<Object>(INVALID_FILE_PATH, new Object()));
     }
 
+    @Test
+    public void constructor_builtInCode_skipsFxmlForPartsThatBuildInCode() throws Exception {
+        URL validFileUrl = getTestFileUrl(VALID_FILE_PATH);
+        URL missingFileUrl = new URL(testFolder.toUri().toURL(), MISSING_FILE_PATH);
+        UiPart.setBuiltInCode(true);
+        try {
+            assertEquals(new TestFxmlObject("built"), new CodeBuiltUiPart(missingFileUrl).getRoot());
+            assertEquals(VALID_FILE_ROOT, new TestUiPart<TestFxmlObject>(validFileUrl).getRoot());
+        } finally {
+            UiPart.setBuiltInCode(false);
+        }
+        assertThrows(AssertionError.class, () -> new CodeBuiltUiPart(missingFileUrl));
+    }
+
     private URL getTestFileUrl(String testFilePath) {
         String testFilePathInView = "/view/" + testFilePath;
         URL testFileUrl = MainApp.class.getResource(testFilePathInView);
@@ -82,6 +96,21 @@ public class UiPartTest {
         return testFileUrl;
     }
 
+    /**
+     * UiPart that can build its root in code.
+     */
+    private static class CodeBuiltUiPart extends UiPart<TestFxmlObject> {
+
+        CodeBuiltUiPart(URL fxmlFileUrl) {
+            super(fxmlFileUrl);
+        }
+
+        @Override
+        protected TestFxmlObject buildRoot(TestFxmlObject givenRoot) {
+            return new TestFxmlObject("built");
+        }
+    }
+
     /**
      * UiPart used for testing.
      * It should only be used with invalid FXML files or the valid file located at {@link VALID_FILE_PATH}.